@@ -0,0 +1,15 @@
+package com.example.ski_jumping_management.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AthleteStatsResponse {
+    private Integer athleteId;
+    private List<SeasonStats> seasons;
+}
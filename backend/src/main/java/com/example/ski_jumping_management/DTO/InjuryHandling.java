@@ -0,0 +1,17 @@
+package com.example.ski_jumping_management.DTO;
+
+public enum InjuryHandling {
+    DOWN_WEIGHT(1.0, 0.8, 0.5, 0.0),
+    EXCLUDE(1.0, 0.0, 0.0, 0.0),
+    IGNORE(1.0, 1.0, 1.0, 1.0);
+
+    private final double[] weightsBySeverityRank;
+
+    InjuryHandling(double... weightsBySeverityRank) {
+        this.weightsBySeverityRank = weightsBySeverityRank;
+    }
+
+    public double weight(int severityRank) {
+        return weightsBySeverityRank[severityRank];
+    }
+}
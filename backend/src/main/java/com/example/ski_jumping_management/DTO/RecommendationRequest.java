@@ -9,4 +9,5 @@ public class RecommendationRequest {
     private Integer eventId;
     private Integer limit;
     private LocalDate fromDate;
+    private InjuryHandling injuryHandling = InjuryHandling.DOWN_WEIGHT;
 }
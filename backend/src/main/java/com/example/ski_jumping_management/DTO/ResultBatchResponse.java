@@ -0,0 +1,16 @@
+package com.example.ski_jumping_management.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ResultBatchResponse {
+    private int created;
+    private int rejected;
+    private List<ResultBatchRowOutcome> rows;
+}
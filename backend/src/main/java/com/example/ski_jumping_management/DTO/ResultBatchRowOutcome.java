@@ -0,0 +1,23 @@
+package com.example.ski_jumping_management.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ResultBatchRowOutcome {
+    private int index;
+    private boolean created;
+    private Integer resultId;
+    private String error;
+
+    public static ResultBatchRowOutcome created(int index, Integer resultId) {
+        return new ResultBatchRowOutcome(index, true, resultId, null);
+    }
+
+    public static ResultBatchRowOutcome rejected(int index, String error) {
+        return new ResultBatchRowOutcome(index, false, null, error);
+    }
+}
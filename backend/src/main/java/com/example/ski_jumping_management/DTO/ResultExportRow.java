@@ -0,0 +1,32 @@
+package com.example.ski_jumping_management.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ResultExportRow {
+    private Integer id;
+    private Integer eventId;
+    private String eventName;
+    private LocalDateTime eventStartDate;
+    private Integer athleteId;
+    private String athleteFirstName;
+    private String athleteLastName;
+    private String season;
+    private Short attemptNumber;
+    private BigDecimal jumpLength;
+    private BigDecimal stylePoints;
+    private BigDecimal windCompensation;
+    private Short gate;
+    private BigDecimal totalPoints;
+    private BigDecimal speedTakeoff;
+    private BigDecimal flightTime;
+    private String coachComment;
+    private String videoUrl;
+}
@@ -0,0 +1,55 @@
+package com.example.ski_jumping_management.DTO;
+
+import com.example.ski_jumping_management.model.Event;
+import com.example.ski_jumping_management.model.Result;
+import com.example.ski_jumping_management.model.User;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ResultView {
+    private Integer id;
+    private String season;
+    private Short attemptNumber;
+    private BigDecimal jumpLength;
+    private BigDecimal stylePoints;
+    private BigDecimal windCompensation;
+    private Short gate;
+    private BigDecimal totalPoints;
+    private BigDecimal speedTakeoff;
+    private BigDecimal flightTime;
+    private String coachComment;
+    private String videoUrl;
+    private Integer eventId;
+    private String eventName;
+    private LocalDateTime eventStartDate;
+    private Integer hillId;
+    private Short hillSize;
+    private Integer athleteId;
+    private String athleteFirstName;
+    private String athleteLastName;
+
+    public static ResultView of(Result result) {
+        Event event = result.getEvent();
+        User athlete = result.getAthlete();
+        return new ResultView(
+                result.getId(), result.getSeason(), result.getAttemptNumber(), result.getJumpLength(),
+                result.getStylePoints(), result.getWindCompensation(), result.getGate(), result.getTotalPoints(),
+                result.getSpeedTakeoff(), result.getFlightTime(), result.getCoachComment(), result.getVideoUrl(),
+                event != null ? event.getId() : null,
+                event != null ? event.getName() : null,
+                event != null ? event.getStartDate() : null,
+                event != null && event.getHill() != null ? event.getHill().getId() : null,
+                event != null && event.getHill() != null ? event.getHill().getHillSize() : null,
+                athlete != null ? athlete.getId() : null,
+                athlete != null ? athlete.getFirstName() : null,
+                athlete != null ? athlete.getLastName() : null
+        );
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.ski_jumping_management.DTO;
+
+public enum SearchHitType {
+    EVENT,
+    USER,
+    HILL,
+    TEAM
+}
@@ -0,0 +1,16 @@
+package com.example.ski_jumping_management.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SeasonStats {
+    private String season;
+    private StatsSummary total;
+    private List<StatsSummary> hills;
+}
@@ -0,0 +1,17 @@
+package com.example.ski_jumping_management.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class StandingsAttempt {
+    private Integer resultId;
+    private Short attemptNumber;
+    private BigDecimal jumpLength;
+    private BigDecimal totalPoints;
+}
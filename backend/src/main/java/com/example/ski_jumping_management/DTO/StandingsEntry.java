@@ -0,0 +1,20 @@
+package com.example.ski_jumping_management.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class StandingsEntry {
+    private int rank;
+    private Integer athleteId;
+    private String athleteFirstName;
+    private String athleteLastName;
+    private BigDecimal totalPoints;
+    private List<StandingsAttempt> attempts;
+}
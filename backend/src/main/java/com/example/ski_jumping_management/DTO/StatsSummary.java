@@ -0,0 +1,20 @@
+package com.example.ski_jumping_management.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class StatsSummary {
+    private Integer hillId;
+    private String hillName;
+    private int jumpCount;
+    private BigDecimal bestJumpLength;
+    private BigDecimal averageJumpLength;
+    private BigDecimal averageTotalPoints;
+    private BigDecimal averageSpeedTakeoff;
+}
@@ -2,8 +2,10 @@ package com.example.ski_jumping_management;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class SkiJumpingManagementApplication {
 
 	public static void main(String[] args) {
@@ -5,10 +5,12 @@ import com.example.ski_jumping_management.DTO.LoginResponse;
 import com.example.ski_jumping_management.model.User;
 import com.example.ski_jumping_management.repository.UserRepository;
 import com.example.ski_jumping_management.security.JwtService;
+import com.example.ski_jumping_management.security.LoginThrottle;
 import com.example.ski_jumping_management.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
@@ -23,11 +25,19 @@ public class AuthController {
     private final UserRepository userRepository;
     private final JwtService jwtService;
     private final UserService userService;
+    private final LoginThrottle loginThrottle;
 
     @PostMapping("/login")
     public LoginResponse login(@RequestBody LoginRequest request) {
 
-        authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(request.getLogin(), request.getPassword()));
+        loginThrottle.checkAllowed(request.getLogin());
+        try {
+            authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(request.getLogin(), request.getPassword()));
+        } catch (AuthenticationException e) {
+            loginThrottle.recordFailure(request.getLogin());
+            throw e;
+        }
+        loginThrottle.recordSuccess(request.getLogin());
 
         Optional<User> user = userRepository.findByLogin(request.getLogin());
 
@@ -1,14 +1,20 @@
 package com.example.ski_jumping_management.controller;
 
+import com.example.ski_jumping_management.DTO.CursorPage;
 import com.example.ski_jumping_management.DTO.EventRequest;
+import com.example.ski_jumping_management.DTO.StandingsEntry;
 import com.example.ski_jumping_management.model.Event;
 import com.example.ski_jumping_management.model.EventType;
 import com.example.ski_jumping_management.service.EventService;
+import com.example.ski_jumping_management.service.LiveResultsService;
+import com.example.ski_jumping_management.service.LiveStandingsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -19,6 +25,8 @@ import java.util.List;
 public class EventController {
 
     private final EventService eventService;
+    private final LiveStandingsService liveStandingsService;
+    private final LiveResultsService liveResultsService;
 
     @GetMapping("")
     public Page<Event> getFilteredEvents(
@@ -44,6 +52,30 @@ public class EventController {
         );
     }
 
+    @GetMapping(value = "", params = "limit")
+    public CursorPage<Event> getFilteredEventsAfter(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) EventType type,
+            @RequestParam(required = false) Integer hillId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDateFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDateTo,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDateFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDateTo,
+            @RequestParam(required = false) String description,
+            @RequestParam(required = false) Short level,
+            @RequestParam(required = false) List<Integer> teamIds,
+            @RequestParam(required = false) List<Integer> athleteIds,
+            @RequestParam(required = false) String after,
+            @RequestParam int limit,
+            @RequestParam(defaultValue = "startDate") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDirection
+    ) {
+        return eventService.getEventsAfter(
+                name, type, hillId, startDateFrom, startDateTo,
+                endDateFrom, endDateTo, description, level, teamIds, athleteIds, after, limit, sortBy, sortDirection
+        );
+    }
+
     @GetMapping("/hill/{id}/has-events")
     public boolean hillHasEvents(@PathVariable Integer id) {
         return eventService.existsByHillId(id);
@@ -148,6 +180,16 @@ public class EventController {
         return eventService.getEventById(id);
     }
 
+    @GetMapping("/{id}/standings")
+    public List<StandingsEntry> getStandings(@PathVariable Integer id) {
+        return liveStandingsService.getStandings(id);
+    }
+
+    @GetMapping(value = "/{id}/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter getLiveResults(@PathVariable Integer id) {
+        return liveResultsService.subscribe(id);
+    }
+
     @PostMapping
     @PreAuthorize("hasAnyAuthority('ADMIN', 'OPERATE')")
     public Event createEvent(@RequestBody EventRequest event) {
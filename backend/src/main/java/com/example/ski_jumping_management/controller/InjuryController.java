@@ -1,5 +1,6 @@
 package com.example.ski_jumping_management.controller;
 
+import com.example.ski_jumping_management.DTO.CursorPage;
 import com.example.ski_jumping_management.DTO.InjuryRequest;
 import com.example.ski_jumping_management.model.Injury;
 import com.example.ski_jumping_management.model.SeverityLevel;
@@ -64,6 +65,39 @@ public class InjuryController {
     }
 
 
+    @GetMapping(value = "", params = "limit")
+    public CursorPage<Injury> getFilteredInjuriesAfter(
+            @RequestParam(required = false) List<Integer> athleteIds,
+            @RequestParam(required = false) List<Integer> teamIds,
+            @RequestParam(required = false) SeverityLevel severity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate injuryFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate injuryTo,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate recoveryFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate recoveryTo,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate eventStart,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate eventEnd,
+            @RequestParam(required = false) String after,
+            @RequestParam int limit,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDirection
+    ) {
+        return injuryService.getInjuriesAfter(
+                athleteIds,
+                teamIds,
+                severity,
+                injuryFrom,
+                injuryTo,
+                recoveryFrom,
+                recoveryTo,
+                eventStart,
+                eventEnd,
+                after,
+                limit,
+                sortBy,
+                sortDirection
+        );
+    }
+
     @PostMapping
     @PreAuthorize("hasAnyAuthority('ADMIN', 'INJURY_MANAGER')")
     public Injury createInjury(@RequestBody InjuryRequest injury, @AuthenticationPrincipal CustomUserDetails currentUser) {
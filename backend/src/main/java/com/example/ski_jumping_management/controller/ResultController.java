@@ -1,5 +1,8 @@
 package com.example.ski_jumping_management.controller;
 
+import com.example.ski_jumping_management.DTO.CursorPage;
+import com.example.ski_jumping_management.DTO.ExportFormat;
+import com.example.ski_jumping_management.DTO.ResultBatchResponse;
 import com.example.ski_jumping_management.DTO.ResultRequest;
 import com.example.ski_jumping_management.model.Result;
 import com.example.ski_jumping_management.security.CustomUserDetails;
@@ -7,9 +10,13 @@ import com.example.ski_jumping_management.service.ResultService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -22,8 +29,12 @@ public class ResultController {
 
     private final ResultService resultService;
 
+    private boolean isExpanded(List<String> expand) {
+        return expand != null && (expand.contains("event") || expand.contains("athlete"));
+    }
+
     @GetMapping("")
-    public Page<Result> getFilteredResults(
+    public Page<?> getFilteredResults(
             @RequestParam(required = false) Integer eventId,
             @RequestParam(required = false) List<Integer> athleteIds,
             @RequestParam(required = false) List<String> seasons,
@@ -45,7 +56,8 @@ public class ResultController {
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "unlimited") String size
+            @RequestParam(defaultValue = "unlimited") String size,
+            @RequestParam(required = false) List<String> expand
     ) {
         return resultService.getFilteredResults(
                 eventId,
@@ -69,13 +81,127 @@ public class ResultController {
                 startDate,
                 endDate,
                 page,
-                size
+                size,
+                isExpanded(expand)
+        );
+    }
+
+    @GetMapping(value = "", params = "limit")
+    public CursorPage<?> getFilteredResultsAfter(
+            @RequestParam(required = false) Integer eventId,
+            @RequestParam(required = false) List<Integer> athleteIds,
+            @RequestParam(required = false) List<String> seasons,
+            @RequestParam(required = false) Short attemptNumber,
+            @RequestParam(required = false) BigDecimal minJumpLength,
+            @RequestParam(required = false) BigDecimal maxJumpLength,
+            @RequestParam(required = false) BigDecimal minStylePoints,
+            @RequestParam(required = false) BigDecimal maxStylePoints,
+            @RequestParam(required = false) BigDecimal minWindCompensation,
+            @RequestParam(required = false) BigDecimal maxWindCompensation,
+            @RequestParam(required = false) Short minGate,
+            @RequestParam(required = false) Short maxGate,
+            @RequestParam(required = false) BigDecimal minTotalPoints,
+            @RequestParam(required = false) BigDecimal maxTotalPoints,
+            @RequestParam(required = false) BigDecimal minSpeedTakeoff,
+            @RequestParam(required = false) BigDecimal maxSpeedTakeoff,
+            @RequestParam(required = false) BigDecimal minFlightTime,
+            @RequestParam(required = false) BigDecimal maxFlightTime,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String after,
+            @RequestParam int limit,
+            @RequestParam(required = false) List<String> expand
+    ) {
+        return resultService.getFilteredResultsAfter(
+                eventId,
+                athleteIds,
+                seasons,
+                attemptNumber,
+                minJumpLength,
+                maxJumpLength,
+                minStylePoints,
+                maxStylePoints,
+                minWindCompensation,
+                maxWindCompensation,
+                minGate,
+                maxGate,
+                minTotalPoints,
+                maxTotalPoints,
+                minSpeedTakeoff,
+                maxSpeedTakeoff,
+                minFlightTime,
+                maxFlightTime,
+                startDate,
+                endDate,
+                after,
+                limit,
+                isExpanded(expand)
         );
     }
 
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportResults(
+            @RequestParam(required = false) Integer eventId,
+            @RequestParam(required = false) List<Integer> athleteIds,
+            @RequestParam(required = false) List<String> seasons,
+            @RequestParam(required = false) Short attemptNumber,
+            @RequestParam(required = false) BigDecimal minJumpLength,
+            @RequestParam(required = false) BigDecimal maxJumpLength,
+            @RequestParam(required = false) BigDecimal minStylePoints,
+            @RequestParam(required = false) BigDecimal maxStylePoints,
+            @RequestParam(required = false) BigDecimal minWindCompensation,
+            @RequestParam(required = false) BigDecimal maxWindCompensation,
+            @RequestParam(required = false) Short minGate,
+            @RequestParam(required = false) Short maxGate,
+            @RequestParam(required = false) BigDecimal minTotalPoints,
+            @RequestParam(required = false) BigDecimal maxTotalPoints,
+            @RequestParam(required = false) BigDecimal minSpeedTakeoff,
+            @RequestParam(required = false) BigDecimal maxSpeedTakeoff,
+            @RequestParam(required = false) BigDecimal minFlightTime,
+            @RequestParam(required = false) BigDecimal maxFlightTime,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "csv") String format
+    ) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+
+        StreamingResponseBody body = out -> resultService.exportResults(
+                eventId,
+                athleteIds,
+                seasons,
+                attemptNumber,
+                minJumpLength,
+                maxJumpLength,
+                minStylePoints,
+                maxStylePoints,
+                minWindCompensation,
+                maxWindCompensation,
+                minGate,
+                maxGate,
+                minTotalPoints,
+                maxTotalPoints,
+                minSpeedTakeoff,
+                maxSpeedTakeoff,
+                minFlightTime,
+                maxFlightTime,
+                startDate,
+                endDate,
+                exportFormat,
+                out
+        );
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"results." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+
     @GetMapping("/{id}")
-    public Result getResultById(@PathVariable Integer id) {
-        return resultService.getResultById(id);
+    public Object getResultById(@PathVariable Integer id, @RequestParam(required = false) List<String> expand) {
+        if (isExpanded(expand)) {
+            return resultService.getResultById(id);
+        }
+        return resultService.getResultViewById(id);
     }
 
     @PostMapping
@@ -85,6 +211,12 @@ public class ResultController {
         return resultService.createResult(request, currentUser);
     }
 
+    @PostMapping("/batch")
+    @PreAuthorize("hasAnyAuthority('ADMIN', 'TRAINER')")
+    public ResultBatchResponse createResults(@RequestBody List<ResultRequest> requests, @AuthenticationPrincipal CustomUserDetails currentUser) {
+        return resultService.createResults(requests, currentUser);
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("hasAnyAuthority('ADMIN', 'TRAINER')")
     public Result updateResult(@PathVariable Integer id, @RequestBody ResultRequest request, @AuthenticationPrincipal CustomUserDetails currentUser) {
@@ -0,0 +1,26 @@
+package com.example.ski_jumping_management.controller;
+
+import com.example.ski_jumping_management.DTO.SearchHit;
+import com.example.ski_jumping_management.DTO.SearchHitType;
+import com.example.ski_jumping_management.service.SearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchService searchService;
+
+    @GetMapping
+    public List<SearchHit> search(
+            @RequestParam String q,
+            @RequestParam(required = false) List<SearchHitType> types,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        return searchService.search(q, types, limit);
+    }
+}
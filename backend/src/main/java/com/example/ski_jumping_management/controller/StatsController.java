@@ -0,0 +1,28 @@
+package com.example.ski_jumping_management.controller;
+
+import com.example.ski_jumping_management.DTO.AthleteStatsResponse;
+import com.example.ski_jumping_management.service.AthleteStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/stats")
+@RequiredArgsConstructor
+public class StatsController {
+
+    private final AthleteStatsService athleteStatsService;
+
+    @GetMapping("/athletes/{id}")
+    public AthleteStatsResponse getAthleteStats(@PathVariable Integer id, @RequestParam(required = false) String season) {
+        return athleteStatsService.getAthleteStats(id, season);
+    }
+
+    @PostMapping("/rebuild")
+    @PreAuthorize("hasAnyAuthority('ADMIN')")
+    public Map<String, Integer> rebuildStats() {
+        return athleteStatsService.rebuildAll();
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.ski_jumping_management.controller;
 
+import com.example.ski_jumping_management.DTO.CursorPage;
 import com.example.ski_jumping_management.DTO.UserRequest;
 import com.example.ski_jumping_management.DTO.UserResponse;
 import com.example.ski_jumping_management.security.CustomUserDetails;
@@ -51,9 +52,32 @@ public class UserController {
         );
     }
 
+    @GetMapping(value = "", params = "limit")
+    public CursorPage<UserResponse> getUsersAfter(
+            @RequestParam(required = false) Boolean active,
+            @RequestParam(required = false) BigDecimal minHeight,
+            @RequestParam(required = false) BigDecimal maxHeight,
+            @RequestParam(required = false) BigDecimal minWeight,
+            @RequestParam(required = false) BigDecimal maxWeight,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate birthDateFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate birthDateTo,
+            @RequestParam(required = false) List<Integer> teamIds,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) List<Integer> roleIds,
+            @RequestParam(required = false) String after,
+            @RequestParam int limit,
+            @RequestParam(defaultValue = "firstName") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDirection
+    ) {
+        return userService.getUsersAfter(
+                active, minHeight, maxHeight, minWeight, maxWeight,
+                birthDateFrom, birthDateTo, teamIds, search, roleIds, after, limit, sortBy, sortDirection
+        );
+    }
+
     @GetMapping("/me")
     public UserResponse getCurrentUser(@AuthenticationPrincipal CustomUserDetails currentUser) {
-        return userService.getUserById(currentUser.getUser().getId());
+        return userService.getUserById(currentUser.getUserId());
     }
 
     @PostMapping
@@ -0,0 +1,5 @@
+package com.example.ski_jumping_management.exceptions;
+
+public class ServiceUnavailableException extends RuntimeException {
+    public ServiceUnavailableException(String message) { super(message); }
+}
@@ -0,0 +1,35 @@
+package com.example.ski_jumping_management.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "athlete_score_index")
+@IdClass(AthleteScoreIndexId.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AthleteScoreIndex {
+
+    @Id
+    @Column(name = "athlete_id")
+    private Integer athleteId;
+
+    @Id
+    @Column(name = "hill_size")
+    private Short hillSize;
+
+    @Id
+    @Column(name = "event_day")
+    private LocalDate eventDay;
+
+    @Column(name = "jump_count", nullable = false)
+    private Integer jumpCount;
+
+    @Column(name = "ratio_level_sum", nullable = false)
+    private Double ratioLevelSum;
+}
@@ -0,0 +1,17 @@
+package com.example.ski_jumping_management.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AthleteScoreIndexId implements Serializable {
+    private Integer athleteId;
+    private Short hillSize;
+    private LocalDate eventDay;
+}
@@ -0,0 +1,53 @@
+package com.example.ski_jumping_management.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Entity
+@Table(name = "athlete_season_stats")
+@IdClass(AthleteSeasonStatsId.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AthleteSeasonStats {
+
+    @Id
+    @Column(name = "athlete_id")
+    private Integer athleteId;
+
+    @Id
+    @Column(name = "season", length = 9)
+    private String season;
+
+    @Id
+    @Column(name = "hill_id")
+    private Integer hillId;
+
+    @Column(name = "jump_count", nullable = false)
+    private Integer jumpCount;
+
+    @Column(name = "jump_length_sum", nullable = false)
+    private BigDecimal jumpLengthSum;
+
+    @Column(name = "jump_length_count", nullable = false)
+    private Integer jumpLengthCount;
+
+    @Column(name = "best_jump_length", precision = 4, scale = 1)
+    private BigDecimal bestJumpLength;
+
+    @Column(name = "total_points_sum", nullable = false)
+    private BigDecimal totalPointsSum;
+
+    @Column(name = "total_points_count", nullable = false)
+    private Integer totalPointsCount;
+
+    @Column(name = "speed_takeoff_sum", nullable = false)
+    private BigDecimal speedTakeoffSum;
+
+    @Column(name = "speed_takeoff_count", nullable = false)
+    private Integer speedTakeoffCount;
+}
@@ -0,0 +1,16 @@
+package com.example.ski_jumping_management.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AthleteSeasonStatsId implements Serializable {
+    private Integer athleteId;
+    private String season;
+    private Integer hillId;
+}
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -68,9 +69,13 @@ public class User {
     @Column(name = "active")
     private Boolean active = true;
 
-    @Column(name = "last_login")
+    @Column(name = "last_login", updatable = false)
     private LocalDateTime lastLogin;
 
     @Column(name = "must_change_password")
     private Boolean mustChangePassword = true;
+
+    @ColumnDefault("0")
+    @Column(name = "token_version", nullable = false, insertable = false, updatable = false)
+    private Integer tokenVersion = 0;
 }
@@ -0,0 +1,82 @@
+package com.example.ski_jumping_management.repository;
+
+import com.example.ski_jumping_management.model.AthleteScoreIndex;
+import com.example.ski_jumping_management.model.AthleteScoreIndexId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface AthleteScoreIndexRepository extends JpaRepository<AthleteScoreIndex, AthleteScoreIndexId> {
+
+    String INSERT_AGGREGATE = "INSERT INTO athlete_score_index (athlete_id, hill_size, event_day, jump_count, ratio_level_sum) " +
+            "SELECT r.athlete_id, h.hill_size, CAST(e.start_date AS date), count(*), " +
+            "sum(CAST(r.jump_length AS double precision) / h.hill_size * e.level) " +
+            "FROM results r JOIN events e ON e.id = r.event_id JOIN hills h ON h.id = e.hill_id " +
+            "WHERE r.athlete_id IS NOT NULL AND r.jump_length IS NOT NULL AND h.hill_size > 0 ";
+
+    String GROUPING = "GROUP BY r.athlete_id, h.hill_size, CAST(e.start_date AS date)";
+
+    @Modifying
+    @Query(value = "INSERT INTO athlete_score_index AS s (athlete_id, hill_size, event_day, jump_count, ratio_level_sum) " +
+            "VALUES (:athleteId, :hillSize, :eventDay, :jumpCount, :ratioLevelSum) " +
+            "ON CONFLICT (athlete_id, hill_size, event_day) DO UPDATE SET " +
+            "jump_count = s.jump_count + EXCLUDED.jump_count, " +
+            "ratio_level_sum = s.ratio_level_sum + EXCLUDED.ratio_level_sum", nativeQuery = true)
+    void applyDelta(@Param("athleteId") Integer athleteId,
+                    @Param("hillSize") Short hillSize,
+                    @Param("eventDay") LocalDate eventDay,
+                    @Param("jumpCount") int jumpCount,
+                    @Param("ratioLevelSum") double ratioLevelSum);
+
+    @Modifying
+    @Query(value = "DELETE FROM athlete_score_index " +
+            "WHERE athlete_id = :athleteId AND hill_size = :hillSize AND event_day = :eventDay AND jump_count <= 0", nativeQuery = true)
+    void deleteIfEmpty(@Param("athleteId") Integer athleteId, @Param("hillSize") Short hillSize, @Param("eventDay") LocalDate eventDay);
+
+    @Modifying
+    @Query(value = "LOCK TABLE athlete_score_index IN SHARE ROW EXCLUSIVE MODE", nativeQuery = true)
+    void lockForRebuild();
+
+    @Modifying
+    @Query(value = "DELETE FROM athlete_score_index WHERE athlete_id IN (:athleteIds)", nativeQuery = true)
+    int deleteByAthleteIds(@Param("athleteIds") Collection<Integer> athleteIds);
+
+    @Modifying
+    @Query(value = INSERT_AGGREGATE + "AND r.athlete_id IN (:athleteIds) " + GROUPING, nativeQuery = true)
+    int rebuildAthletes(@Param("athleteIds") Collection<Integer> athleteIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM athlete_score_index", nativeQuery = true)
+    int deleteAllRows();
+
+    @Modifying
+    @Query(value = INSERT_AGGREGATE + GROUPING, nativeQuery = true)
+    int rebuildAll();
+
+    @Query(value = "SELECT s.athlete_id, s.hill_size, " +
+            "sum(s.ratio_level_sum * CASE WHEN :windowDays > 0 " +
+            "THEN GREATEST(0, (:windowDays - (CAST(:referenceDate AS date) - s.event_day)) / CAST(:windowDays AS double precision)) " +
+            "ELSE 1 END), " +
+            "sum(s.jump_count), " +
+            "coalesce(inj.severity_rank, 0) " +
+            "FROM athlete_score_index s " +
+            "LEFT JOIN (SELECT i.athlete_id, " +
+            "max(CASE i.severity WHEN 'LOW' THEN 1 WHEN 'HIGH' THEN 3 ELSE 2 END) AS severity_rank " +
+            "FROM injuries i " +
+            "WHERE i.injury_date <= CAST(:eventEnd AS date) " +
+            "AND (i.recovery_date IS NULL OR i.recovery_date >= CAST(:eventStart AS date)) " +
+            "GROUP BY i.athlete_id) inj ON inj.athlete_id = s.athlete_id " +
+            "WHERE s.event_day >= CAST(:fromDay AS date) AND s.event_day <= CAST(:referenceDate AS date) " +
+            "GROUP BY s.athlete_id, s.hill_size, inj.severity_rank " +
+            "ORDER BY s.athlete_id, s.hill_size", nativeQuery = true)
+    List<Object[]> findWindowBuckets(@Param("fromDay") LocalDate fromDay,
+                                     @Param("referenceDate") LocalDate referenceDate,
+                                     @Param("windowDays") long windowDays,
+                                     @Param("eventStart") LocalDate eventStart,
+                                     @Param("eventEnd") LocalDate eventEnd);
+}
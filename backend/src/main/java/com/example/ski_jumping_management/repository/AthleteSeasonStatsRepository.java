@@ -0,0 +1,90 @@
+package com.example.ski_jumping_management.repository;
+
+import com.example.ski_jumping_management.model.AthleteSeasonStats;
+import com.example.ski_jumping_management.model.AthleteSeasonStatsId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+
+public interface AthleteSeasonStatsRepository extends JpaRepository<AthleteSeasonStats, AthleteSeasonStatsId> {
+
+    String AGGREGATE_SELECT = "SELECT r.athlete_id, r.season, e.hill_id, count(*), " +
+            "coalesce(sum(r.jump_length), 0), count(r.jump_length), max(r.jump_length), " +
+            "coalesce(sum(r.total_points), 0), count(r.total_points), " +
+            "coalesce(sum(r.speed_takeoff), 0), count(r.speed_takeoff) " +
+            "FROM results r JOIN events e ON e.id = r.event_id ";
+
+    String INSERT_COLUMNS = "INSERT INTO athlete_season_stats (athlete_id, season, hill_id, jump_count, jump_length_sum, " +
+            "jump_length_count, best_jump_length, total_points_sum, total_points_count, speed_takeoff_sum, speed_takeoff_count) ";
+
+    List<AthleteSeasonStats> findByAthleteIdOrderBySeasonDescHillIdAsc(Integer athleteId);
+
+    List<AthleteSeasonStats> findByAthleteIdAndSeasonOrderByHillIdAsc(Integer athleteId, String season);
+
+    @Modifying
+    @Query(value = "INSERT INTO athlete_season_stats AS s (athlete_id, season, hill_id, jump_count, jump_length_sum, " +
+            "jump_length_count, best_jump_length, total_points_sum, total_points_count, speed_takeoff_sum, speed_takeoff_count) " +
+            "VALUES (:athleteId, :season, :hillId, :jumpCount, :jumpLengthSum, :jumpLengthCount, CAST(:bestJumpLength AS numeric), " +
+            ":totalPointsSum, :totalPointsCount, :speedTakeoffSum, :speedTakeoffCount) " +
+            "ON CONFLICT (athlete_id, season, hill_id) DO UPDATE SET " +
+            "jump_count = s.jump_count + EXCLUDED.jump_count, " +
+            "jump_length_sum = s.jump_length_sum + EXCLUDED.jump_length_sum, " +
+            "jump_length_count = s.jump_length_count + EXCLUDED.jump_length_count, " +
+            "best_jump_length = GREATEST(s.best_jump_length, EXCLUDED.best_jump_length), " +
+            "total_points_sum = s.total_points_sum + EXCLUDED.total_points_sum, " +
+            "total_points_count = s.total_points_count + EXCLUDED.total_points_count, " +
+            "speed_takeoff_sum = s.speed_takeoff_sum + EXCLUDED.speed_takeoff_sum, " +
+            "speed_takeoff_count = s.speed_takeoff_count + EXCLUDED.speed_takeoff_count", nativeQuery = true)
+    void applyDelta(@Param("athleteId") Integer athleteId,
+                    @Param("season") String season,
+                    @Param("hillId") Integer hillId,
+                    @Param("jumpCount") int jumpCount,
+                    @Param("jumpLengthSum") BigDecimal jumpLengthSum,
+                    @Param("jumpLengthCount") int jumpLengthCount,
+                    @Param("bestJumpLength") BigDecimal bestJumpLength,
+                    @Param("totalPointsSum") BigDecimal totalPointsSum,
+                    @Param("totalPointsCount") int totalPointsCount,
+                    @Param("speedTakeoffSum") BigDecimal speedTakeoffSum,
+                    @Param("speedTakeoffCount") int speedTakeoffCount);
+
+    @Modifying
+    @Query(value = "UPDATE athlete_season_stats SET best_jump_length = (" +
+            "SELECT max(r.jump_length) FROM results r JOIN events e ON e.id = r.event_id " +
+            "WHERE r.season = :season AND r.athlete_id = :athleteId AND e.hill_id = :hillId) " +
+            "WHERE athlete_id = :athleteId AND season = :season AND hill_id = :hillId", nativeQuery = true)
+    void recomputeBestJump(@Param("athleteId") Integer athleteId, @Param("season") String season, @Param("hillId") Integer hillId);
+
+    @Modifying
+    @Query(value = "DELETE FROM athlete_season_stats " +
+            "WHERE athlete_id = :athleteId AND season = :season AND hill_id = :hillId AND jump_count <= 0", nativeQuery = true)
+    void deleteIfEmpty(@Param("athleteId") Integer athleteId, @Param("season") String season, @Param("hillId") Integer hillId);
+
+    @Modifying
+    @Query(value = "LOCK TABLE athlete_season_stats IN SHARE ROW EXCLUSIVE MODE", nativeQuery = true)
+    void lockForRebuild();
+
+    @Modifying
+    @Query(value = "DELETE FROM athlete_season_stats WHERE season = :season", nativeQuery = true)
+    int deleteBySeason(@Param("season") String season);
+
+    @Modifying
+    @Query(value = INSERT_COLUMNS + AGGREGATE_SELECT +
+            "WHERE r.season = :season AND r.athlete_id IS NOT NULL " +
+            "GROUP BY r.athlete_id, r.season, e.hill_id", nativeQuery = true)
+    int rebuildSeason(@Param("season") String season);
+
+    @Modifying
+    @Query(value = "DELETE FROM athlete_season_stats WHERE athlete_id IN (:athleteIds)", nativeQuery = true)
+    int deleteByAthleteIds(@Param("athleteIds") Collection<Integer> athleteIds);
+
+    @Modifying
+    @Query(value = INSERT_COLUMNS + AGGREGATE_SELECT +
+            "WHERE r.athlete_id IN (:athleteIds) " +
+            "GROUP BY r.athlete_id, r.season, e.hill_id", nativeQuery = true)
+    int rebuildAthletes(@Param("athleteIds") Collection<Integer> athleteIds);
+}
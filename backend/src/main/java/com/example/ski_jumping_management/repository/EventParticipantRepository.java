@@ -4,11 +4,25 @@ import com.example.ski_jumping_management.model.Event;
 import com.example.ski_jumping_management.model.EventParticipant;
 import com.example.ski_jumping_management.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface EventParticipantRepository extends JpaRepository<EventParticipant,Integer> {
-    List<EventParticipant> findByEventId(Integer eventId);
+    List<EventParticipant> findByEventIdAndSeason(Integer eventId, String season);
     List<EventParticipant> findByAthleteId(Integer athleteId);
-    boolean existsByEventAndAthlete(Event event, User athlete);
+    boolean existsByEventAndAthleteAndSeason(Event event, User athlete, String season);
+
+    @Query("SELECT p.event.id, p.athlete.id FROM EventParticipant p " +
+            "WHERE p.season IN :seasons AND p.event.id IN :eventIds AND p.athlete.id IN :athleteIds")
+    List<Object[]> findParticipantPairs(@Param("seasons") Collection<String> seasons,
+                                        @Param("eventIds") Collection<Integer> eventIds,
+                                        @Param("athleteIds") Collection<Integer> athleteIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE event_participants SET season = :newSeason WHERE event_id = :eventId AND season = :oldSeason", nativeQuery = true)
+    int moveEventToSeason(@Param("eventId") Integer eventId, @Param("oldSeason") String oldSeason, @Param("newSeason") String newSeason);
 }
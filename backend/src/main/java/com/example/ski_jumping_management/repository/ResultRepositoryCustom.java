@@ -0,0 +1,28 @@
+package com.example.ski_jumping_management.repository;
+
+import com.example.ski_jumping_management.DTO.ResultExportRow;
+import com.example.ski_jumping_management.DTO.ResultView;
+import com.example.ski_jumping_management.model.Result;
+import com.example.ski_jumping_management.repository.specification.ResultFilter;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface ResultRepositoryCustom {
+    Stream<ResultExportRow> streamFilteredResults(ResultFilter filter);
+
+    Page<ResultView> findViews(ResultFilter filter, Pageable pageable);
+
+    List<ResultView> findViewsAfter(ResultFilter filter, Integer afterId, int limit);
+
+    Optional<ResultView> findViewById(Integer id);
+
+    List<ResultView> findViewsByIds(Collection<Integer> ids);
+
+    void insertAll(List<Result> results);
+}
@@ -0,0 +1,189 @@
+package com.example.ski_jumping_management.repository;
+
+import com.example.ski_jumping_management.DTO.ResultExportRow;
+import com.example.ski_jumping_management.DTO.ResultView;
+import com.example.ski_jumping_management.model.Event;
+import com.example.ski_jumping_management.model.Hill;
+import com.example.ski_jumping_management.model.Result;
+import com.example.ski_jumping_management.model.User;
+import com.example.ski_jumping_management.repository.specification.ResultFilter;
+import com.example.ski_jumping_management.repository.specification.ResultSpecifications;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class ResultRepositoryImpl implements ResultRepositoryCustom {
+
+    private static final int EXPORT_FETCH_SIZE = 1000;
+    private static final int INSERT_BATCH_SIZE = 100;
+    private static final String INSERT_SQL = "INSERT INTO results (id, event_id, athlete_id, season, attempt_number, " +
+            "jump_length, style_points, wind_compensation, gate, total_points, coach_comment, video_url, " +
+            "speed_takeoff, flight_time) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final EntityManager em;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Stream<ResultExportRow> streamFilteredResults(ResultFilter filter) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<ResultExportRow> query = cb.createQuery(ResultExportRow.class);
+        Root<Result> root = query.from(Result.class);
+        Path<Event> event = root.get("event");
+        Path<User> athlete = root.get("athlete");
+
+        query.select(cb.construct(ResultExportRow.class,
+                        root.get("id"), event.get("id"), event.get("name"), event.get("startDate"),
+                        athlete.get("id"), athlete.get("firstName"), athlete.get("lastName"),
+                        root.get("season"), root.get("attemptNumber"), root.get("jumpLength"),
+                        root.get("stylePoints"), root.get("windCompensation"), root.get("gate"),
+                        root.get("totalPoints"), root.get("speedTakeoff"), root.get("flightTime"),
+                        root.get("coachComment"), root.get("videoUrl")))
+                .orderBy(cb.asc(event.get("startDate")), cb.asc(event.get("id")), cb.asc(athlete.get("id")),
+                        cb.asc(root.get("attemptNumber")), cb.asc(root.get("id")));
+
+        Predicate restriction = ResultSpecifications.matching(filter).toPredicate(root, query, cb);
+        if (restriction != null) {
+            query.where(restriction);
+        }
+
+        return em.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, EXPORT_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    @Override
+    public Page<ResultView> findViews(ResultFilter filter, Pageable pageable) {
+        TypedQuery<ResultView> query = em.createQuery(viewQuery(filter, null));
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset()).setMaxResults(pageable.getPageSize());
+        }
+        List<ResultView> content = query.setHint(HibernateHints.HINT_READ_ONLY, true).getResultList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> countFiltered(filter));
+    }
+
+    @Override
+    public List<ResultView> findViewsAfter(ResultFilter filter, Integer afterId, int limit) {
+        return em.createQuery(viewQuery(filter, afterId))
+                .setMaxResults(limit)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultList();
+    }
+
+    @Override
+    public Optional<ResultView> findViewById(Integer id) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<ResultView> query = cb.createQuery(ResultView.class);
+        Root<Result> root = query.from(Result.class);
+        query.select(viewSelection(cb, root)).where(cb.equal(root.get("id"), id));
+
+        return em.createQuery(query).getResultStream().findFirst();
+    }
+
+    @Override
+    public List<ResultView> findViewsByIds(Collection<Integer> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<ResultView> query = cb.createQuery(ResultView.class);
+        Root<Result> root = query.from(Result.class);
+        query.select(viewSelection(cb, root)).where(root.get("id").in(ids)).orderBy(cb.asc(root.get("id")));
+
+        return em.createQuery(query)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultList();
+    }
+
+    private CriteriaQuery<ResultView> viewQuery(ResultFilter filter, Integer afterId) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<ResultView> query = cb.createQuery(ResultView.class);
+        Root<Result> root = query.from(Result.class);
+        query.select(viewSelection(cb, root)).orderBy(cb.asc(root.get("id")));
+
+        List<Predicate> predicates = new ArrayList<>();
+        Predicate restriction = ResultSpecifications.matching(filter).toPredicate(root, query, cb);
+        if (restriction != null) {
+            predicates.add(restriction);
+        }
+        if (afterId != null) {
+            predicates.add(cb.greaterThan(root.get("id"), afterId));
+        }
+        if (!predicates.isEmpty()) {
+            query.where(predicates.toArray(new Predicate[0]));
+        }
+        return query;
+    }
+
+    private CompoundSelection<ResultView> viewSelection(CriteriaBuilder cb, Root<Result> root) {
+        Path<Event> event = root.get("event");
+        Path<Hill> hill = event.get("hill");
+        Path<User> athlete = root.get("athlete");
+
+        return cb.construct(ResultView.class,
+                root.get("id"), root.get("season"), root.get("attemptNumber"), root.get("jumpLength"),
+                root.get("stylePoints"), root.get("windCompensation"), root.get("gate"), root.get("totalPoints"),
+                root.get("speedTakeoff"), root.get("flightTime"), root.get("coachComment"), root.get("videoUrl"),
+                event.get("id"), event.get("name"), event.get("startDate"),
+                hill.get("id"), hill.get("hillSize"),
+                athlete.get("id"), athlete.get("firstName"), athlete.get("lastName"));
+    }
+
+    private long countFiltered(ResultFilter filter) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Result> root = query.from(Result.class);
+        query.select(cb.count(root));
+
+        Predicate restriction = ResultSpecifications.matching(filter).toPredicate(root, query, cb);
+        if (restriction != null) {
+            query.where(restriction);
+        }
+        return em.createQuery(query).getSingleResult();
+    }
+
+    @Override
+    public void insertAll(List<Result> results) {
+        if (results.isEmpty()) {
+            return;
+        }
+
+        List<Integer> ids = jdbcTemplate.queryForList(
+                "SELECT nextval('results_id_seq')::int FROM generate_series(1, ?)", Integer.class, results.size());
+
+        List<Object[]> rows = new ArrayList<>(results.size());
+        for (int i = 0; i < results.size(); i++) {
+            Result result = results.get(i);
+            result.setId(ids.get(i));
+            rows.add(new Object[]{
+                    result.getId(), result.getEvent().getId(), result.getAthlete().getId(), result.getSeason(),
+                    result.getAttemptNumber(), result.getJumpLength(), result.getStylePoints(),
+                    result.getWindCompensation(), result.getGate(), result.getTotalPoints(),
+                    result.getCoachComment(), result.getVideoUrl(), result.getSpeedTakeoff(), result.getFlightTime()
+            });
+        }
+
+        for (int from = 0; from < rows.size(); from += INSERT_BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows.subList(from, Math.min(from + INSERT_BATCH_SIZE, rows.size())));
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.ski_jumping_management.repository;
+
+import com.example.ski_jumping_management.DTO.SearchHit;
+import com.example.ski_jumping_management.DTO.SearchHitType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Repository
+@RequiredArgsConstructor
+public class SearchRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<SearchHit> search(String term, Collection<SearchHitType> types, int limit) {
+        String sql = types.stream()
+                .map(SearchRepository::branch)
+                .collect(Collectors.joining(" UNION ALL ", "", " ORDER BY score DESC, length(label), label LIMIT :limit"));
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("term", term)
+                .addValue("pattern", "%" + escapeLike(term) + "%")
+                .addValue("limit", limit);
+
+        return jdbcTemplate.query(sql, params, (rs, row) -> new SearchHit(
+                SearchHitType.valueOf(rs.getString("type")),
+                rs.getInt("id"),
+                rs.getString("label"),
+                rs.getDouble("score")
+        ));
+    }
+
+    private static String branch(SearchHitType type) {
+        return switch (type) {
+            case EVENT -> branch(type, "events", "name");
+            case USER -> branch(type, "users", "first_name || ' ' || last_name");
+            case HILL -> branch(type, "hills", "name");
+            case TEAM -> branch(type, "teams", "name");
+        };
+    }
+
+    private static String branch(SearchHitType type, String table, String label) {
+        String key = "public.search_key(" + label + ")";
+        return "(SELECT '" + type.name() + "' AS type, id, " + label + " AS label, " +
+                "word_similarity(public.search_key(:term), " + key + ") AS score " +
+                "FROM public." + table + " " +
+                "WHERE public.search_key(:term) <% " + key + " OR " + key + " LIKE public.search_key(:pattern) " +
+                "ORDER BY score DESC LIMIT :limit)";
+    }
+
+    private static String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
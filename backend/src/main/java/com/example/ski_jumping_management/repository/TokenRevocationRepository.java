@@ -0,0 +1,35 @@
+package com.example.ski_jumping_management.repository;
+
+import com.example.ski_jumping_management.model.TokenRevocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface TokenRevocationRepository extends JpaRepository<TokenRevocation, Integer> {
+
+    @Modifying
+    @Query(value = "INSERT INTO token_revocations (user_id, min_version, revoked_at) " +
+            "SELECT id, token_version, now() FROM users WHERE id IN (:userIds) " +
+            "ON CONFLICT (user_id) DO UPDATE SET min_version = EXCLUDED.min_version, revoked_at = EXCLUDED.revoked_at", nativeQuery = true)
+    void recordCurrentVersions(@Param("userIds") Collection<Integer> userIds);
+
+    @Modifying
+    @Query(value = "INSERT INTO token_revocations (user_id, min_version, revoked_at) VALUES (:userId, 2147483647, now()) " +
+            "ON CONFLICT (user_id) DO UPDATE SET min_version = EXCLUDED.min_version, revoked_at = EXCLUDED.revoked_at", nativeQuery = true)
+    void recordDeleted(@Param("userId") Integer userId);
+
+    @Query(value = "SELECT user_id, min_version FROM token_revocations WHERE user_id IN (:userIds)", nativeQuery = true)
+    List<Object[]> findMinVersions(@Param("userIds") Collection<Integer> userIds);
+
+    @Query(value = "SELECT CAST(pg_notify(:channel, :payload) AS text)", nativeQuery = true)
+    String notify(@Param("channel") String channel, @Param("payload") String payload);
+
+    @Modifying
+    @Query(value = "DELETE FROM token_revocations WHERE revoked_at < :cutoff", nativeQuery = true)
+    int deleteRevokedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
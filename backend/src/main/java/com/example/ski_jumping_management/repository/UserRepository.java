@@ -1,20 +1,18 @@
 package com.example.ski_jumping_management.repository;
 
 import com.example.ski_jumping_management.model.User;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
-import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface UserRepository extends JpaRepository<User,Integer> {
+public interface UserRepository extends JpaRepository<User,Integer>, JpaSpecificationExecutor<User>, UserRepositoryCustom {
     Optional<User> findByLogin(String login);
 
     boolean existsByLogin(String login);
@@ -41,37 +39,27 @@ public interface UserRepository extends JpaRepository<User,Integer> {
     @Query(value = "DELETE FROM user_teams WHERE user_id = :userId AND team_id = :teamId", nativeQuery = true)
     void removeUserFromTeam(@Param("userId") Integer userId, @Param("teamId") Integer teamId);
 
-    @Query("""
-        SELECT DISTINCT u FROM User u
-        LEFT JOIN u.teams t
-        LEFT JOIN u.roles r
-        WHERE (:teamIds IS NULL OR t.id IN :teamIds)
-        AND (:roleIds IS NULL OR r.id IN :roleIds)
-        AND (:active IS NULL OR u.active = :active)
-        AND (:minHeight IS NULL OR u.height >= :minHeight)
-        AND (:maxHeight IS NULL OR u.height <= :maxHeight)
-        AND (:minWeight IS NULL OR u.weight >= :minWeight)
-        AND (:maxWeight IS NULL OR u.weight <= :maxWeight)
-        AND (CAST(:birthDateFrom AS date) IS NULL OR u.birthDate >= :birthDateFrom)
-        AND (CAST(:birthDateTo AS date) IS NULL OR u.birthDate <= :birthDateTo)
-        AND (
-             :search IS NULL OR :search = '' 
-             OR LOWER(u.firstName) LIKE LOWER(CONCAT('%', :search, '%'))
-             OR LOWER(u.lastName) LIKE LOWER(CONCAT('%', :search, '%'))
-             OR LOWER(CONCAT(u.firstName, ' ', u.lastName)) LIKE LOWER(CONCAT('%', :search, '%'))
-        )
-        """)
-    Page<User> findUsers(
-            @Param("active") Boolean active,
-            @Param("minHeight") BigDecimal minHeight,
-            @Param("maxHeight") BigDecimal maxHeight,
-            @Param("minWeight") BigDecimal minWeight,
-            @Param("maxWeight") BigDecimal maxWeight,
-            @Param("birthDateFrom") LocalDate birthDateFrom,
-            @Param("birthDateTo") LocalDate birthDateTo,
-            @Param("teamIds") List<Integer> teamIds,
-            @Param("roleIds") List<Integer> roleIds,
-            @Param("search") String search,
-            Pageable pageable
-    );
+    @Query(value = "SELECT user_id FROM user_teams WHERE team_id = :teamId", nativeQuery = true)
+    List<Integer> findUserIdsByTeamId(@Param("teamId") Integer teamId);
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE users SET token_version = token_version + 1 WHERE id IN (:userIds)", nativeQuery = true)
+    void incrementTokenVersions(@Param("userIds") Collection<Integer> userIds);
+
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM user_teams ut " +
+            "JOIN event_allowed_team eat ON eat.team_id = ut.team_id " +
+            "WHERE ut.user_id = :userId AND eat.event_id = :eventId)", nativeQuery = true)
+    boolean sharesTeamWithEvent(@Param("userId") Integer userId, @Param("eventId") Integer eventId);
+
+    @Query(value = "SELECT eat.event_id FROM event_allowed_team eat " +
+            "WHERE eat.event_id IN (:eventIds) " +
+            "AND EXISTS (SELECT 1 FROM user_teams ut WHERE ut.user_id = :userId AND ut.team_id = eat.team_id) " +
+            "GROUP BY eat.event_id", nativeQuery = true)
+    List<Integer> findEventIdsSharingTeam(@Param("userId") Integer userId, @Param("eventIds") Collection<Integer> eventIds);
+
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM user_teams ut " +
+            "JOIN user_teams athlete_teams ON athlete_teams.team_id = ut.team_id " +
+            "WHERE ut.user_id = :userId AND athlete_teams.user_id = :athleteId)", nativeQuery = true)
+    boolean sharesTeamWithAthlete(@Param("userId") Integer userId, @Param("athleteId") Integer athleteId);
 }
@@ -0,0 +1,8 @@
+package com.example.ski_jumping_management.repository;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public interface UserRepositoryCustom {
+    void updateLastLogins(Map<Integer, LocalDateTime> lastLogins);
+}
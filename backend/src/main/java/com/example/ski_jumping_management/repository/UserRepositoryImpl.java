@@ -0,0 +1,36 @@
+package com.example.ski_jumping_management.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class UserRepositoryImpl implements UserRepositoryCustom {
+
+    private static final int UPDATE_BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void updateLastLogins(Map<Integer, LocalDateTime> lastLogins) {
+        List<Map.Entry<Integer, LocalDateTime>> entries = new ArrayList<>(lastLogins.entrySet());
+        for (int from = 0; from < entries.size(); from += UPDATE_BATCH_SIZE) {
+            List<Map.Entry<Integer, LocalDateTime>> chunk = entries.subList(from, Math.min(from + UPDATE_BATCH_SIZE, entries.size()));
+
+            StringBuilder sql = new StringBuilder("UPDATE users u SET last_login = v.ts FROM (VALUES ");
+            Object[] args = new Object[chunk.size() * 2];
+            for (int i = 0; i < chunk.size(); i++) {
+                sql.append(i == 0 ? "" : ", ").append("(CAST(? AS integer), CAST(? AS timestamp))");
+                args[i * 2] = chunk.get(i).getKey();
+                args[i * 2 + 1] = chunk.get(i).getValue();
+            }
+            sql.append(") AS v(id, ts) WHERE u.id = v.id AND (u.last_login IS NULL OR u.last_login < v.ts)");
+
+            jdbcTemplate.update(sql.toString(), args);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.ski_jumping_management.repository.specification;
+
+import com.example.ski_jumping_management.model.EventType;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+public class EventFilter {
+    private String name;
+    private EventType type;
+    private Integer hillId;
+    private LocalDateTime startDateFrom;
+    private LocalDateTime startDateTo;
+    private LocalDateTime endDateFrom;
+    private LocalDateTime endDateTo;
+    private String description;
+    private Short level;
+    private List<Integer> teamIds;
+    private List<Integer> athleteIds;
+}
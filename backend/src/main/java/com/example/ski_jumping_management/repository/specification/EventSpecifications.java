@@ -0,0 +1,55 @@
+package com.example.ski_jumping_management.repository.specification;
+
+import com.example.ski_jumping_management.model.Event;
+import com.example.ski_jumping_management.model.EventParticipant;
+import com.example.ski_jumping_management.model.Team;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.ski_jumping_management.repository.specification.Predicates.*;
+
+public final class EventSpecifications {
+
+    private EventSpecifications() {
+    }
+
+    public static Specification<Event> matching(EventFilter filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            contains(predicates, cb, root.get("name"), filter.getName());
+            equal(predicates, cb, root.get("type"), filter.getType());
+            equal(predicates, cb, root.get("hill").get("id"), filter.getHillId());
+            atLeast(predicates, cb, root.get("startDate"), filter.getStartDateFrom());
+            atMost(predicates, cb, root.get("startDate"), filter.getStartDateTo());
+            atLeast(predicates, cb, root.get("endDate"), filter.getEndDateFrom());
+            atMost(predicates, cb, root.get("endDate"), filter.getEndDateTo());
+            contains(predicates, cb, root.get("description"), filter.getDescription());
+            equal(predicates, cb, root.get("level"), filter.getLevel());
+
+            if (!isEmpty(filter.getTeamIds())) {
+                Subquery<Integer> allowedTeams = query.subquery(Integer.class);
+                Join<Event, Team> team = allowedTeams.correlate(root).join("eventAllowedTeams");
+                allowedTeams.select(cb.literal(1)).where(team.get("id").in(filter.getTeamIds()));
+                predicates.add(cb.exists(allowedTeams));
+            }
+
+            if (!isEmpty(filter.getAthleteIds())) {
+                Subquery<Integer> participations = query.subquery(Integer.class);
+                Root<EventParticipant> participant = participations.from(EventParticipant.class);
+                participations.select(cb.literal(1))
+                        .where(cb.equal(participant.get("event").get("id"), root.get("id")),
+                                participant.get("athlete").get("id").in(filter.getAthleteIds()));
+                predicates.add(cb.exists(participations));
+            }
+
+            return and(cb, predicates);
+        };
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.ski_jumping_management.repository.specification;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+public class HillFilter {
+    private String name;
+    private String city;
+    private String country;
+    private Short minHillSize;
+    private Short maxHillSize;
+    private Short minKPoint;
+    private Short maxKPoint;
+    private BigDecimal latitude;
+    private BigDecimal longitude;
+}
@@ -0,0 +1,34 @@
+package com.example.ski_jumping_management.repository.specification;
+
+import com.example.ski_jumping_management.model.Hill;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.ski_jumping_management.repository.specification.Predicates.*;
+
+public final class HillSpecifications {
+
+    private HillSpecifications() {
+    }
+
+    public static Specification<Hill> matching(HillFilter filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            contains(predicates, cb, root.get("name"), filter.getName());
+            contains(predicates, cb, root.get("city"), filter.getCity());
+            contains(predicates, cb, root.get("country"), filter.getCountry());
+            atLeast(predicates, cb, root.get("hillSize"), filter.getMinHillSize());
+            atMost(predicates, cb, root.get("hillSize"), filter.getMaxHillSize());
+            atLeast(predicates, cb, root.get("constructionPoint"), filter.getMinKPoint());
+            atMost(predicates, cb, root.get("constructionPoint"), filter.getMaxKPoint());
+            equal(predicates, cb, root.get("latitude"), filter.getLatitude());
+            equal(predicates, cb, root.get("longitude"), filter.getLongitude());
+
+            return and(cb, predicates);
+        };
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.ski_jumping_management.repository.specification;
+
+import com.example.ski_jumping_management.model.SeverityLevel;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+public class InjuryFilter {
+    private List<Integer> athleteIds;
+    private SeverityLevel severity;
+    private LocalDate injuryFrom;
+    private LocalDate injuryTo;
+    private LocalDate recoveryFrom;
+    private LocalDate recoveryTo;
+    private List<Integer> teamIds;
+    private LocalDate eventStart;
+    private LocalDate eventEnd;
+}
@@ -0,0 +1,54 @@
+package com.example.ski_jumping_management.repository.specification;
+
+import com.example.ski_jumping_management.model.Injury;
+import com.example.ski_jumping_management.model.Team;
+import com.example.ski_jumping_management.model.User;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.ski_jumping_management.repository.specification.Predicates.*;
+
+public final class InjurySpecifications {
+
+    private InjurySpecifications() {
+    }
+
+    public static Specification<Injury> matching(InjuryFilter filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            Path<LocalDate> injuryDate = root.get("injuryDate");
+            Path<LocalDate> recoveryDate = root.get("recoveryDate");
+
+            in(predicates, root.get("athlete").get("id"), filter.getAthleteIds());
+            equal(predicates, cb, root.get("severity"), filter.getSeverity());
+            atLeast(predicates, cb, injuryDate, filter.getInjuryFrom());
+            atMost(predicates, cb, injuryDate, filter.getInjuryTo());
+            atLeast(predicates, cb, recoveryDate, filter.getRecoveryFrom());
+            atMost(predicates, cb, recoveryDate, filter.getRecoveryTo());
+
+            if (!isEmpty(filter.getTeamIds())) {
+                Join<Injury, User> athlete = root.join("athlete");
+                Join<User, Team> teams = athlete.join("teams");
+                predicates.add(teams.get("id").in(filter.getTeamIds()));
+                query.distinct(true);
+            }
+
+            if (filter.getEventStart() != null) {
+                predicates.add(cb.or(
+                        cb.isNull(recoveryDate),
+                        cb.greaterThanOrEqualTo(recoveryDate, filter.getEventStart())
+                ));
+            }
+
+            atMost(predicates, cb, injuryDate, filter.getEventEnd());
+
+            return and(cb, predicates);
+        };
+    }
+}
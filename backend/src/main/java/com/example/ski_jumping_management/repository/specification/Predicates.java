@@ -0,0 +1,60 @@
+package com.example.ski_jumping_management.repository.specification;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+
+import java.util.Collection;
+import java.util.List;
+
+final class Predicates {
+
+    private Predicates() {
+    }
+
+    static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    static boolean isEmpty(Collection<?> values) {
+        return values == null || values.isEmpty();
+    }
+
+    static void equal(List<Predicate> predicates, CriteriaBuilder cb, Expression<?> path, Object value) {
+        if (value != null) {
+            predicates.add(cb.equal(path, value));
+        }
+    }
+
+    static <Y extends Comparable<? super Y>> void atLeast(List<Predicate> predicates, CriteriaBuilder cb, Expression<? extends Y> path, Y value) {
+        if (value != null) {
+            predicates.add(cb.greaterThanOrEqualTo(path, value));
+        }
+    }
+
+    static <Y extends Comparable<? super Y>> void atMost(List<Predicate> predicates, CriteriaBuilder cb, Expression<? extends Y> path, Y value) {
+        if (value != null) {
+            predicates.add(cb.lessThanOrEqualTo(path, value));
+        }
+    }
+
+    static void in(List<Predicate> predicates, Expression<?> path, Collection<?> values) {
+        if (!isEmpty(values)) {
+            predicates.add(path.in(values));
+        }
+    }
+
+    static void contains(List<Predicate> predicates, CriteriaBuilder cb, Expression<String> path, String value) {
+        if (!isBlank(value)) {
+            predicates.add(containsPredicate(cb, path, value));
+        }
+    }
+
+    static Predicate containsPredicate(CriteriaBuilder cb, Expression<String> path, String value) {
+        return cb.like(cb.lower(path), "%" + value.toLowerCase() + "%");
+    }
+
+    static Predicate and(CriteriaBuilder cb, List<Predicate> predicates) {
+        return predicates.isEmpty() ? null : cb.and(predicates.toArray(new Predicate[0]));
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.ski_jumping_management.repository.specification;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+public class ResultFilter {
+    private Integer eventId;
+    private List<Integer> athleteIds;
+    private List<String> seasons;
+    private List<String> partitionSeasons;
+    private String minSeason;
+    private String maxSeason;
+    private Short attemptNumber;
+    private BigDecimal minJumpLength;
+    private BigDecimal maxJumpLength;
+    private BigDecimal minStylePoints;
+    private BigDecimal maxStylePoints;
+    private BigDecimal minWindCompensation;
+    private BigDecimal maxWindCompensation;
+    private Short minGate;
+    private Short maxGate;
+    private BigDecimal minTotalPoints;
+    private BigDecimal maxTotalPoints;
+    private BigDecimal minSpeedTakeoff;
+    private BigDecimal maxSpeedTakeoff;
+    private BigDecimal minFlightTime;
+    private BigDecimal maxFlightTime;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+}
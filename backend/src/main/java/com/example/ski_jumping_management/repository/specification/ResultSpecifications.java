@@ -0,0 +1,51 @@
+package com.example.ski_jumping_management.repository.specification;
+
+import com.example.ski_jumping_management.model.Event;
+import com.example.ski_jumping_management.model.Result;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.ski_jumping_management.repository.specification.Predicates.*;
+
+public final class ResultSpecifications {
+
+    private ResultSpecifications() {
+    }
+
+    public static Specification<Result> matching(ResultFilter filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            Path<Event> event = root.get("event");
+
+            equal(predicates, cb, event.get("id"), filter.getEventId());
+            in(predicates, root.get("athlete").get("id"), filter.getAthleteIds());
+            in(predicates, root.get("season"), filter.getSeasons());
+            in(predicates, root.get("season"), filter.getPartitionSeasons());
+            atLeast(predicates, cb, root.get("season"), filter.getMinSeason());
+            atMost(predicates, cb, root.get("season"), filter.getMaxSeason());
+            equal(predicates, cb, root.get("attemptNumber"), filter.getAttemptNumber());
+            atLeast(predicates, cb, root.get("jumpLength"), filter.getMinJumpLength());
+            atMost(predicates, cb, root.get("jumpLength"), filter.getMaxJumpLength());
+            atLeast(predicates, cb, root.get("stylePoints"), filter.getMinStylePoints());
+            atMost(predicates, cb, root.get("stylePoints"), filter.getMaxStylePoints());
+            atLeast(predicates, cb, root.get("windCompensation"), filter.getMinWindCompensation());
+            atMost(predicates, cb, root.get("windCompensation"), filter.getMaxWindCompensation());
+            atLeast(predicates, cb, root.get("gate"), filter.getMinGate());
+            atMost(predicates, cb, root.get("gate"), filter.getMaxGate());
+            atLeast(predicates, cb, root.get("totalPoints"), filter.getMinTotalPoints());
+            atMost(predicates, cb, root.get("totalPoints"), filter.getMaxTotalPoints());
+            atLeast(predicates, cb, root.get("speedTakeoff"), filter.getMinSpeedTakeoff());
+            atMost(predicates, cb, root.get("speedTakeoff"), filter.getMaxSpeedTakeoff());
+            atLeast(predicates, cb, root.get("flightTime"), filter.getMinFlightTime());
+            atMost(predicates, cb, root.get("flightTime"), filter.getMaxFlightTime());
+            atLeast(predicates, cb, event.get("startDate"), filter.getStartDate());
+            atMost(predicates, cb, event.get("startDate"), filter.getEndDate());
+
+            return and(cb, predicates);
+        };
+    }
+}
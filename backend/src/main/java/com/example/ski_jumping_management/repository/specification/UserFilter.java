@@ -0,0 +1,23 @@
+package com.example.ski_jumping_management.repository.specification;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+public class UserFilter {
+    private Boolean active;
+    private BigDecimal minHeight;
+    private BigDecimal maxHeight;
+    private BigDecimal minWeight;
+    private BigDecimal maxWeight;
+    private LocalDate birthDateFrom;
+    private LocalDate birthDateTo;
+    private List<Integer> teamIds;
+    private List<Integer> roleIds;
+    private String search;
+}
@@ -0,0 +1,59 @@
+package com.example.ski_jumping_management.repository.specification;
+
+import com.example.ski_jumping_management.model.Role;
+import com.example.ski_jumping_management.model.Team;
+import com.example.ski_jumping_management.model.User;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.ski_jumping_management.repository.specification.Predicates.*;
+
+public final class UserSpecifications {
+
+    private UserSpecifications() {
+    }
+
+    public static Specification<User> matching(UserFilter filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            equal(predicates, cb, root.get("active"), filter.getActive());
+            atLeast(predicates, cb, root.get("height"), filter.getMinHeight());
+            atMost(predicates, cb, root.get("height"), filter.getMaxHeight());
+            atLeast(predicates, cb, root.get("weight"), filter.getMinWeight());
+            atMost(predicates, cb, root.get("weight"), filter.getMaxWeight());
+            atLeast(predicates, cb, root.get("birthDate"), filter.getBirthDateFrom());
+            atMost(predicates, cb, root.get("birthDate"), filter.getBirthDateTo());
+
+            if (!isEmpty(filter.getTeamIds())) {
+                Join<User, Team> teams = root.join("teams");
+                predicates.add(teams.get("id").in(filter.getTeamIds()));
+                query.distinct(true);
+            }
+
+            if (!isEmpty(filter.getRoleIds())) {
+                Join<User, Role> roles = root.join("roles");
+                predicates.add(roles.get("id").in(filter.getRoleIds()));
+                query.distinct(true);
+            }
+
+            if (!isBlank(filter.getSearch())) {
+                Expression<String> firstName = root.get("firstName");
+                Expression<String> lastName = root.get("lastName");
+                Expression<String> fullName = cb.concat(cb.concat(firstName, " "), lastName);
+                predicates.add(cb.or(
+                        containsPredicate(cb, firstName, filter.getSearch()),
+                        containsPredicate(cb, lastName, filter.getSearch()),
+                        containsPredicate(cb, fullName, filter.getSearch())
+                ));
+            }
+
+            return and(cb, predicates);
+        };
+    }
+}
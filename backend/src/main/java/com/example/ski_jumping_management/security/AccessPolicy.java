@@ -0,0 +1,87 @@
+package com.example.ski_jumping_management.security;
+
+import com.example.ski_jumping_management.model.Team;
+import com.example.ski_jumping_management.model.UserRole;
+import com.example.ski_jumping_management.repository.EventRepository;
+import com.example.ski_jumping_management.repository.UserRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+public class AccessPolicy {
+
+    private final UserRepository userRepository;
+    private final EventRepository eventRepository;
+
+    public boolean hasRole(CustomUserDetails principal, UserRole role) {
+        return principal != null && (principal.roleMask() & bit(role)) != 0;
+    }
+
+    public boolean isMemberOf(CustomUserDetails principal, Integer teamId) {
+        return principal != null && teamId != null && Arrays.binarySearch(principal.sortedTeamIds(), teamId) >= 0;
+    }
+
+    public boolean sharesTeam(CustomUserDetails principal, Collection<Team> teams) {
+        if (principal == null || principal.sortedTeamIds().length == 0) {
+            return false;
+        }
+        for (Team team : teams) {
+            if (isMemberOf(principal, team.getId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean sharesTeamWithEvent(CustomUserDetails principal, Integer eventId) {
+        return principal != null && eventId != null && principal.sortedTeamIds().length > 0
+                && userRepository.sharesTeamWithEvent(principal.getUserId(), eventId);
+    }
+
+    public Set<Integer> eventsSharingTeam(CustomUserDetails principal, Collection<Integer> eventIds) {
+        if (principal == null || eventIds.isEmpty() || principal.sortedTeamIds().length == 0) {
+            return Set.of();
+        }
+        return Set.copyOf(userRepository.findEventIdsSharingTeam(principal.getUserId(), eventIds));
+    }
+
+    public boolean sharesTeamWithAthlete(CustomUserDetails principal, Integer athleteId) {
+        return principal != null && athleteId != null && principal.sortedTeamIds().length > 0
+                && userRepository.sharesTeamWithAthlete(principal.getUserId(), athleteId);
+    }
+
+    public void requireEventAccess(CustomUserDetails principal, UserRole scopedRole, Integer eventId, String message) {
+        if (!isTeamScoped(principal, scopedRole) || sharesTeamWithEvent(principal, eventId)) {
+            return;
+        }
+        if (!eventRepository.existsById(eventId)) {
+            throw new EntityNotFoundException("Event not found");
+        }
+        throw new AccessDeniedException(message);
+    }
+
+    public void requireAthleteAccess(CustomUserDetails principal, UserRole scopedRole, Integer athleteId, String message) {
+        if (!isTeamScoped(principal, scopedRole) || sharesTeamWithAthlete(principal, athleteId)) {
+            return;
+        }
+        if (!userRepository.existsById(athleteId)) {
+            throw new EntityNotFoundException("Athlete not found");
+        }
+        throw new AccessDeniedException(message);
+    }
+
+    public boolean isTeamScoped(CustomUserDetails principal, UserRole scopedRole) {
+        return hasRole(principal, scopedRole) && !hasRole(principal, UserRole.ADMIN);
+    }
+
+    static int bit(UserRole role) {
+        return 1 << role.ordinal();
+    }
+}
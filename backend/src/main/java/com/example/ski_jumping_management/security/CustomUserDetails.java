@@ -1,35 +1,85 @@
 package com.example.ski_jumping_management.security;
 
+import com.example.ski_jumping_management.model.Role;
+import com.example.ski_jumping_management.model.Team;
 import com.example.ski_jumping_management.model.User;
+import com.example.ski_jumping_management.model.UserRole;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Getter
 public class CustomUserDetails implements UserDetails {
 
-    private final User user;
+    private final Integer userId;
+    private final String login;
+    private final String passwordHash;
+    private final Set<UserRole> roles;
+    private final Set<Integer> teamIds;
+    private final boolean active;
+    private final boolean mustChangePassword;
+    private final int tokenVersion;
+    private final List<GrantedAuthority> authorities;
+    @Getter(AccessLevel.NONE)
+    private final int roleMask;
+    @Getter(AccessLevel.NONE)
+    private final int[] sortedTeamIds;
 
     public CustomUserDetails(User user) {
-        this.user = user;
+        this(user.getId(),
+                user.getLogin(),
+                user.getPasswordHash(),
+                user.getRoles().stream().map(Role::getName).collect(Collectors.toUnmodifiableSet()),
+                user.getTeams().stream().map(Team::getId).collect(Collectors.toUnmodifiableSet()),
+                Boolean.TRUE.equals(user.getActive()),
+                Boolean.TRUE.equals(user.getMustChangePassword()),
+                user.getTokenVersion() != null ? user.getTokenVersion() : 0);
+    }
+
+    public CustomUserDetails(Integer userId, String login, String passwordHash, Set<UserRole> roles, Set<Integer> teamIds,
+                             boolean active, boolean mustChangePassword, int tokenVersion) {
+        this.userId = userId;
+        this.login = login;
+        this.passwordHash = passwordHash;
+        this.roles = Set.copyOf(roles);
+        this.teamIds = Set.copyOf(teamIds);
+        this.active = active;
+        this.mustChangePassword = mustChangePassword;
+        this.tokenVersion = tokenVersion;
+        this.authorities = this.roles.stream()
+                .map(role -> (GrantedAuthority) new SimpleGrantedAuthority(role.name()))
+                .toList();
+        this.roleMask = this.roles.stream().mapToInt(AccessPolicy::bit).reduce(0, (mask, bit) -> mask | bit);
+        this.sortedTeamIds = this.teamIds.stream().mapToInt(Integer::intValue).sorted().toArray();
+    }
+
+    int roleMask() {
+        return roleMask;
+    }
+
+    int[] sortedTeamIds() {
+        return sortedTeamIds;
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return user.getRoles().stream().map(role -> new SimpleGrantedAuthority(role.getName().name())).toList();
+        return authorities;
     }
 
     @Override
     public String getPassword() {
-        return user.getPasswordHash();
+        return passwordHash;
     }
 
     @Override
     public String getUsername() {
-        return user.getLogin(); // <- login jako username
+        return login; // <- login jako username
     }
 
     @Override
@@ -39,6 +89,5 @@ public class CustomUserDetails implements UserDetails {
     @Override
     public boolean isCredentialsNonExpired() { return true; }
     @Override
-    public boolean isEnabled() { return user.getActive(); }
+    public boolean isEnabled() { return active; }
 }
-
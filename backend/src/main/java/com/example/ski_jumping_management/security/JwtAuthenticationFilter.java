@@ -1,15 +1,15 @@
 package com.example.ski_jumping_management.security;
 
-import com.example.ski_jumping_management.model.User;
+import com.example.ski_jumping_management.model.UserRole;
 import com.example.ski_jumping_management.repository.UserRepository;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
@@ -17,13 +17,26 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
+    private final TokenRevocations tokenRevocations;
+    private final boolean stateless;
+
+    public JwtAuthenticationFilter(JwtService jwtService, UserRepository userRepository, PrincipalCache principalCache,
+                                   TokenRevocations tokenRevocations, @Value("${security.auth.stateless:false}") boolean stateless) {
+        this.jwtService = jwtService;
+        this.userRepository = userRepository;
+        this.principalCache = principalCache;
+        this.tokenRevocations = tokenRevocations;
+        this.stateless = stateless;
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -38,14 +51,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String token = authHeader.substring(7);
 
         try {
-            String login = jwtService.extractUsername(token);
+            Claims claims = jwtService.extractClaims(token);
+            Integer tokenVersion = claims.get("tokenVersion", Integer.class);
 
-            User user = userRepository.findByLogin(login).orElseThrow(() -> new UsernameNotFoundException("User not found"));
-            boolean mustChangePassword = user.getMustChangePassword();
+            CustomUserDetails userDetails = stateless ? principalFromClaims(claims, tokenVersion) : loadPrincipal(claims.getSubject());
 
-            CustomUserDetails userDetails = new CustomUserDetails(user);
+            if (userDetails.getTokenVersion() != (tokenVersion != null ? tokenVersion : 0)) {
+                throw new BadCredentialsException("Token has been revoked");
+            }
 
-            if (mustChangePassword) {
+            if (userDetails.isMustChangePassword()) {
                 if (!request.getServletPath().equals("/users/me/change-password")) {
                     response.setStatus(HttpServletResponse.SC_FORBIDDEN);
                     response.getWriter().write("Password must be changed first");
@@ -62,4 +77,30 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             throw new BadCredentialsException("Unauthorized: " + ex.getMessage(), ex);
         }
     }
+
+    private CustomUserDetails loadPrincipal(String login) {
+        return principalCache.get(login, () -> userRepository.findByLogin(login)
+                .map(CustomUserDetails::new)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found")));
+    }
+
+    private CustomUserDetails principalFromClaims(Claims claims, Integer tokenVersion) {
+        Integer userId = claims.get("userId", Integer.class);
+        Boolean mustChangePassword = claims.get("mustChangePassword", Boolean.class);
+        if (userId == null || tokenVersion == null || mustChangePassword == null) {
+            throw new BadCredentialsException("Token is missing required claims");
+        }
+        if (tokenRevocations.isRevoked(userId, tokenVersion)) {
+            throw new BadCredentialsException("Token has been revoked");
+        }
+
+        Set<UserRole> roles = ((List<?>) claims.get("roles", List.class)).stream()
+                .map(role -> UserRole.valueOf(role.toString()))
+                .collect(Collectors.toSet());
+        Set<Integer> teamIds = ((List<?>) claims.get("teamIds", List.class)).stream()
+                .map(teamId -> ((Number) teamId).intValue())
+                .collect(Collectors.toSet());
+
+        return new CustomUserDetails(userId, claims.getSubject(), null, roles, teamIds, true, mustChangePassword, tokenVersion);
+    }
 }
@@ -2,20 +2,46 @@ package com.example.ski_jumping_management.security;
 
 import com.example.ski_jumping_management.model.Team;
 import com.example.ski_jumping_management.model.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 public class JwtService {
 
+    public static final Duration TOKEN_LIFETIME = Duration.ofDays(7);
+
     private static final String SECRET_KEY = "Y2xvdGhpbmd6dWx1d2hlcmVyZW1lbWJlcnN1cHBseW9yaWdpbnRoZXNlcmVtYWludGk=";
     private final SecretKey key = new SecretKeySpec(SECRET_KEY.getBytes(), "HmacSHA256");
+    private final JwtParser parser = Jwts.parser().verifyWith(key).build();
+
+    private final int claimsCacheSize;
+    private final Map<String, VerifiedClaims> verified;
+
+    public JwtService(@Value("${security.jwt.claims-cache.max-entries:4096}") int claimsCacheSize) {
+        this.claimsCacheSize = claimsCacheSize;
+        this.verified = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, VerifiedClaims> eldest) {
+                return size() > JwtService.this.claimsCacheSize;
+            }
+        };
+    }
 
     public String generateToken(User user) {
 
@@ -33,28 +59,70 @@ public class JwtService {
                 .claim("userId", user.getId())
                 .claim("roles", roles)
                 .claim("teamIds", teamIds)
+                .claim("mustChangePassword", Boolean.TRUE.equals(user.getMustChangePassword()))
+                .claim("tokenVersion", user.getTokenVersion())
                 .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + 7L * 24 * 60 * 60 * 1000))
+                .setExpiration(new Date(System.currentTimeMillis() + TOKEN_LIFETIME.toMillis()))
                 .signWith(key)
                 .compact();
     }
 
     public String extractUsername(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+        return extractClaims(token).getSubject();
     }
 
     public List<String> extractRoles(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("roles", List.class);
+        return extractClaims(token).get("roles", List.class);
+    }
+
+    public Claims extractClaims(String token) {
+        if (claimsCacheSize <= 0) {
+            return parser.parseSignedClaims(token).getPayload();
+        }
+
+        String digest = digest(token);
+        long now = System.currentTimeMillis();
+        synchronized (verified) {
+            VerifiedClaims cached = verified.get(digest);
+            if (cached != null) {
+                if (cached.expiresAt > now) {
+                    return cached.claims;
+                }
+                verified.remove(digest);
+            }
+        }
+
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        if (claims.getExpiration() != null) {
+            synchronized (verified) {
+                verified.put(digest, new VerifiedClaims(claims, claims.getExpiration().getTime()));
+            }
+        }
+        return claims;
+    }
+
+    int cachedClaimsCount() {
+        synchronized (verified) {
+            return verified.size();
+        }
     }
 
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class VerifiedClaims {
+        private final Claims claims;
+        private final long expiresAt;
+
+        private VerifiedClaims(Claims claims, long expiresAt) {
+            this.claims = claims;
+            this.expiresAt = expiresAt;
+        }
+    }
 }
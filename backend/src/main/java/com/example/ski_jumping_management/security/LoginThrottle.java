@@ -0,0 +1,142 @@
+package com.example.ski_jumping_management.security;
+
+import com.example.ski_jumping_management.exceptions.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+@Component
+public class LoginThrottle {
+
+    private final int maxFailures;
+    private final long windowMillis;
+    private final long lockoutMillis;
+    private final int maxTrackedLogins;
+    private final LongSupplier clock;
+    private final Map<String, Attempts> attempts = new ConcurrentHashMap<>();
+
+    @Autowired
+    public LoginThrottle(@Value("${security.login.max-failures:5}") int maxFailures,
+                         @Value("${security.login.failure-window:15m}") Duration window,
+                         @Value("${security.login.lockout:5m}") Duration lockout,
+                         @Value("${security.login.max-tracked-logins:10000}") int maxTrackedLogins) {
+        this(maxFailures, window, lockout, maxTrackedLogins, System::currentTimeMillis);
+    }
+
+    LoginThrottle(int maxFailures, Duration window, Duration lockout, int maxTrackedLogins, LongSupplier clock) {
+        this.maxFailures = maxFailures;
+        this.windowMillis = window.toMillis();
+        this.lockoutMillis = lockout.toMillis();
+        this.maxTrackedLogins = maxTrackedLogins;
+        this.clock = clock;
+    }
+
+    public void checkAllowed(String login) {
+        Attempts entry = attempts.get(key(login));
+        if (entry == null) {
+            return;
+        }
+        long now = clock.getAsLong();
+        long blockedUntil;
+        synchronized (entry) {
+            blockedUntil = entry.blockedUntil;
+        }
+        if (blockedUntil > now) {
+            throw new TooManyRequestsException("Too many failed login attempts, try again later",
+                    Math.max(1, (blockedUntil - now + 999) / 1000));
+        }
+    }
+
+    public void recordFailure(String login) {
+        long now = clock.getAsLong();
+        String key = key(login);
+        if (!attempts.containsKey(key) && attempts.size() >= maxTrackedLogins) {
+            evictOldest(now);
+        }
+        Attempts entry = attempts.computeIfAbsent(key, ignored -> new Attempts(now));
+        synchronized (entry) {
+            if (now - entry.windowStart > windowMillis) {
+                entry.windowStart = now;
+                entry.failures = 0;
+            }
+            entry.failures++;
+            if (entry.failures >= maxFailures) {
+                entry.blockedUntil = now + lockoutMillis;
+                entry.windowStart = now;
+                entry.failures = 0;
+            }
+        }
+    }
+
+    public void recordSuccess(String login) {
+        attempts.remove(key(login));
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void purgeExpired() {
+        long now = clock.getAsLong();
+        attempts.values().removeIf(entry -> {
+            synchronized (entry) {
+                return entry.blockedUntil <= now && now - entry.windowStart > windowMillis;
+            }
+        });
+    }
+
+    private synchronized void evictOldest(long now) {
+        if (attempts.size() < maxTrackedLogins) {
+            return;
+        }
+        purgeExpired();
+        int excess = attempts.size() - maxTrackedLogins * 9 / 10;
+        if (excess <= 0) {
+            return;
+        }
+        attempts.entrySet().stream()
+                .map(entry -> {
+                    synchronized (entry.getValue()) {
+                        return new Candidate(entry.getKey(), entry.getValue().blockedUntil > now, entry.getValue().windowStart);
+                    }
+                })
+                .sorted(Comparator.comparing((Candidate candidate) -> candidate.locked).thenComparingLong(candidate -> candidate.windowStart))
+                .limit(excess)
+                .forEach(candidate -> attempts.remove(candidate.key));
+    }
+
+    int trackedLogins() {
+        return attempts.size();
+    }
+
+    private String key(String login) {
+        return String.valueOf(login).trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static class Candidate {
+        private final String key;
+        private final boolean locked;
+        private final long windowStart;
+
+        private Candidate(String key, boolean locked, long windowStart) {
+            this.key = key;
+            this.locked = locked;
+            this.windowStart = windowStart;
+        }
+    }
+
+    private static class Attempts {
+        private long windowStart;
+        private int failures;
+        private long blockedUntil;
+
+        private Attempts(long windowStart) {
+            this.windowStart = windowStart;
+        }
+    }
+}
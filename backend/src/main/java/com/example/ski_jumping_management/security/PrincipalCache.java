@@ -0,0 +1,101 @@
+package com.example.ski_jumping_management.security;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+@Component
+public class PrincipalCache {
+
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final LongSupplier clock;
+    private final AtomicLong generation = new AtomicLong();
+    private final Map<String, Entry> entries;
+
+    @Autowired
+    public PrincipalCache(@Value("${security.principal-cache.ttl:60s}") Duration ttl,
+                          @Value("${security.principal-cache.max-entries:1024}") int maxEntries) {
+        this(ttl, maxEntries, System::nanoTime);
+    }
+
+    PrincipalCache(Duration ttl, int maxEntries, LongSupplier clock) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > PrincipalCache.this.maxEntries;
+            }
+        };
+    }
+
+    public CustomUserDetails get(String login, Supplier<CustomUserDetails> loader) {
+        long now = clock.getAsLong();
+        long loadGeneration;
+        synchronized (entries) {
+            Entry entry = entries.get(login);
+            if (entry != null) {
+                if (now - entry.loadedAt < ttlNanos) {
+                    return entry.principal;
+                }
+                entries.remove(login);
+            }
+            loadGeneration = generation.get();
+        }
+
+        CustomUserDetails principal = loader.get();
+
+        synchronized (entries) {
+            if (generation.get() == loadGeneration) {
+                entries.put(login, new Entry(principal, now));
+            }
+        }
+        return principal;
+    }
+
+    public void evict(String login) {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            entries.remove(login);
+        }
+    }
+
+    public void evictUser(Integer userId) {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            entries.values().removeIf(entry -> entry.principal.getUserId().equals(userId));
+        }
+    }
+
+    public void evictAll() {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            entries.clear();
+        }
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static class Entry {
+        private final CustomUserDetails principal;
+        private final long loadedAt;
+
+        private Entry(CustomUserDetails principal, long loadedAt) {
+            this.principal = principal;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.example.ski_jumping_management.security;
+
+import com.example.ski_jumping_management.model.TokenRevocation;
+import com.example.ski_jumping_management.repository.TokenRevocationRepository;
+import com.example.ski_jumping_management.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Component
+public class TokenRevocations {
+
+    static final String CHANNEL = "token_revocations";
+    private static final int NOTIFY_CHUNK_SIZE = 300;
+    private static final long RECONNECT_DELAY_MILLIS = 5_000;
+
+    private final UserRepository userRepository;
+    private final TokenRevocationRepository revocationRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final DataSource dataSource;
+    private final int expectedEntries;
+    private final boolean listen;
+
+    private volatile Snapshot snapshot;
+    private volatile boolean loaded;
+    private volatile boolean running;
+    private Thread listener;
+
+    public TokenRevocations(UserRepository userRepository, TokenRevocationRepository revocationRepository,
+                            PlatformTransactionManager transactionManager, DataSource dataSource,
+                            @Value("${security.revocation.expected-entries:10000}") int expectedEntries,
+                            @Value("${security.revocation.listen:true}") boolean listen) {
+        this.userRepository = userRepository;
+        this.revocationRepository = revocationRepository;
+        this.transactionManager = transactionManager;
+        this.dataSource = dataSource;
+        this.expectedEntries = expectedEntries;
+        this.listen = listen;
+        this.snapshot = new Snapshot(Map.of(), new BloomFilter(expectedEntries, 0.01));
+    }
+
+    public boolean isRevoked(Integer userId, int tokenVersion) {
+        ensureLoaded();
+        Snapshot current = snapshot;
+        if (!current.filter.mightContain(userId)) {
+            return false;
+        }
+        Integer minVersion = current.minVersions.get(userId);
+        return minVersion != null && tokenVersion < minVersion;
+    }
+
+    public void revoke(Integer userId) {
+        revoke(List.of(userId));
+    }
+
+    public void revoke(Collection<Integer> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new TransactionTemplate(transactionManager).execute(status -> {
+            userRepository.incrementTokenVersions(userIds);
+            revocationRepository.recordCurrentVersions(userIds);
+            List<Object[]> versions = revocationRepository.findMinVersions(userIds);
+            publish(versions.stream()
+                    .map(row -> ((Number) row[0]).intValue() + ":" + ((Number) row[1]).intValue())
+                    .toList());
+            return versions;
+        });
+        Map<Integer, Integer> updates = new HashMap<>();
+        rows.forEach(row -> updates.merge(((Number) row[0]).intValue(), ((Number) row[1]).intValue(), Math::max));
+        apply(updates);
+    }
+
+    public void revokeDeleted(Integer userId) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            revocationRepository.recordDeleted(userId);
+            publish(List.of(userId + ":" + Integer.MAX_VALUE));
+        });
+        apply(Map.of(userId, Integer.MAX_VALUE));
+    }
+
+    @Scheduled(cron = "0 15 * * * *")
+    public void purgeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(JwtService.TOKEN_LIFETIME);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> revocationRepository.deleteRevokedBefore(cutoff));
+        reload();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startListening() {
+        if (!listen) {
+            return;
+        }
+        running = true;
+        listener = Thread.ofPlatform().name("token-revocation-listener").daemon().start(this::listenLoop);
+    }
+
+    @PreDestroy
+    public void stopListening() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    void apply(Map<Integer, Integer> updates) {
+        ensureLoaded();
+        synchronized (this) {
+            Snapshot current = snapshot;
+            Map<Integer, Integer> merged = new HashMap<>(current.minVersions);
+            updates.forEach((userId, minVersion) -> {
+                merged.merge(userId, minVersion, Math::max);
+                current.filter.put(userId);
+            });
+            snapshot = new Snapshot(merged, current.filter);
+        }
+    }
+
+    void applyNotification(String payload) {
+        Map<Integer, Integer> updates = new HashMap<>();
+        for (String entry : payload.split(",")) {
+            int separator = entry.indexOf(':');
+            if (separator > 0) {
+                updates.merge(Integer.parseInt(entry.substring(0, separator)), Integer.parseInt(entry.substring(separator + 1)), Math::max);
+            }
+        }
+        apply(updates);
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            reload();
+        }
+    }
+
+    private synchronized void reload() {
+        List<TokenRevocation> revocations = revocationRepository.findAll();
+        Map<Integer, Integer> minVersions = new HashMap<>();
+        revocations.forEach(revocation -> minVersions.merge(revocation.getUserId(), revocation.getMinVersion(), Math::max));
+
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedEntries, minVersions.size() * 2), 0.01);
+        minVersions.keySet().forEach(rebuilt::put);
+        snapshot = new Snapshot(minVersions, rebuilt);
+        loaded = true;
+    }
+
+    private void publish(List<String> entries) {
+        for (int from = 0; from < entries.size(); from += NOTIFY_CHUNK_SIZE) {
+            String payload = entries.subList(from, Math.min(from + NOTIFY_CHUNK_SIZE, entries.size())).stream()
+                    .collect(Collectors.joining(","));
+            revocationRepository.notify(CHANNEL, payload);
+        }
+    }
+
+    private void listenLoop() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                if (!connection.isWrapperFor(PGConnection.class)) {
+                    return;
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                reload();
+
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(5_000);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            applyNotification(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                try {
+                    Thread.sleep(RECONNECT_DELAY_MILLIS);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private static final class Snapshot {
+        private final Map<Integer, Integer> minVersions;
+        private final BloomFilter filter;
+
+        private Snapshot(Map<Integer, Integer> minVersions, BloomFilter filter) {
+            this.minVersions = Map.copyOf(minVersions);
+            this.filter = filter;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.ski_jumping_management.service;
+
+import com.example.ski_jumping_management.DTO.InjuryHandling;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+@Component
+public class AthleteScoringEngine {
+
+    private static final Comparator<ScoredAthlete> WORST_FIRST = Comparator
+            .comparingDouble(ScoredAthlete::getScore)
+            .thenComparing(ScoredAthlete::getAthleteId, Comparator.reverseOrder());
+
+    private final int parallelThreshold;
+
+    public AthleteScoringEngine(@Value("${recommendation.scoring.parallel-threshold:50000}") int parallelThreshold) {
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    public List<Integer> topAthletes(ScoreColumns columns, int eventHillSize, int limit, InjuryHandling injuryHandling) {
+        return columns.size() >= parallelThreshold
+                ? topAthletesParallel(columns, eventHillSize, limit, injuryHandling)
+                : topAthletesSerial(columns, eventHillSize, limit, injuryHandling);
+    }
+
+    public List<Integer> topAthletesSerial(ScoreColumns columns, int eventHillSize, int limit, InjuryHandling injuryHandling) {
+        return ranked(scoreRange(columns, 0, columns.size, eventHillSize, limit, injuryHandling), limit);
+    }
+
+    public List<Integer> topAthletesParallel(ScoreColumns columns, int eventHillSize, int limit, InjuryHandling injuryHandling) {
+        int[] bounds = athleteAlignedBounds(columns, ForkJoinPool.getCommonPoolParallelism() * 4);
+
+        PriorityQueue<ScoredAthlete> merged = IntStream.range(0, bounds.length - 1)
+                .parallel()
+                .mapToObj(chunk -> scoreRange(columns, bounds[chunk], bounds[chunk + 1], eventHillSize, limit, injuryHandling))
+                .reduce((left, right) -> {
+                    right.forEach(candidate -> offer(left, candidate, limit));
+                    return left;
+                })
+                .orElseGet(() -> new PriorityQueue<>(WORST_FIRST));
+
+        return ranked(merged, limit);
+    }
+
+    private PriorityQueue<ScoredAthlete> scoreRange(ScoreColumns columns, int from, int to, int eventHillSize, int limit,
+                                                    InjuryHandling injuryHandling) {
+        PriorityQueue<ScoredAthlete> heap = new PriorityQueue<>(limit + 1, WORST_FIRST);
+        double eventSize = eventHillSize;
+
+        int i = from;
+        while (i < to) {
+            int athleteId = columns.athleteIds[i];
+            double injuryWeight = injuryHandling.weight(columns.injuryRanks[i]);
+            double weighted = 0;
+            long jumps = 0;
+            while (i < to && columns.athleteIds[i] == athleteId) {
+                double hillFactor = 1 - Math.abs(columns.hillSizes[i] - eventSize) / eventSize;
+                weighted += columns.weightedSums[i] * hillFactor;
+                jumps += columns.jumpCounts[i];
+                i++;
+            }
+            if (jumps > 0 && injuryWeight > 0) {
+                offer(heap, new ScoredAthlete(athleteId, weighted / jumps * injuryWeight), limit);
+            }
+        }
+        return heap;
+    }
+
+    private int[] athleteAlignedBounds(ScoreColumns columns, int chunks) {
+        int count = Math.max(1, Math.min(chunks, columns.size));
+        List<Integer> bounds = new ArrayList<>(count + 1);
+        bounds.add(0);
+        for (int chunk = 1; chunk < count; chunk++) {
+            int split = (int) ((long) columns.size * chunk / count);
+            while (split < columns.size && columns.athleteIds[split] == columns.athleteIds[split - 1]) {
+                split++;
+            }
+            if (split > bounds.getLast() && split < columns.size) {
+                bounds.add(split);
+            }
+        }
+        bounds.add(columns.size);
+        return bounds.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private void offer(PriorityQueue<ScoredAthlete> heap, ScoredAthlete candidate, int limit) {
+        heap.offer(candidate);
+        if (heap.size() > limit) {
+            heap.poll();
+        }
+    }
+
+    private List<Integer> ranked(PriorityQueue<ScoredAthlete> heap, int limit) {
+        List<Integer> ranked = new ArrayList<>(Math.min(heap.size(), limit));
+        while (!heap.isEmpty()) {
+            ranked.add(heap.poll().getAthleteId());
+        }
+        return ranked.reversed();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class ScoredAthlete {
+        private final int athleteId;
+        private final double score;
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.ski_jumping_management.service;
+
+import com.example.ski_jumping_management.DTO.AthleteStatsResponse;
+import com.example.ski_jumping_management.DTO.SeasonStats;
+import com.example.ski_jumping_management.DTO.StatsSummary;
+import com.example.ski_jumping_management.model.AthleteSeasonStats;
+import com.example.ski_jumping_management.model.AthleteSeasonStatsId;
+import com.example.ski_jumping_management.model.Hill;
+import com.example.ski_jumping_management.repository.AthleteSeasonStatsRepository;
+import com.example.ski_jumping_management.repository.HillRepository;
+import com.example.ski_jumping_management.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class AthleteStatsService {
+
+    private final AthleteSeasonStatsRepository statsRepository;
+    private final UserRepository userRepository;
+    private final HillRepository hillRepository;
+    private final SeasonPartitionManager seasonPartitionManager;
+    private final PlatformTransactionManager transactionManager;
+    private final EntityManager em;
+
+    public void recordAdded(JumpSample sample) {
+        recordAdded(List.of(sample));
+    }
+
+    public void recordAdded(Collection<JumpSample> samples) {
+        Map<AthleteSeasonStatsId, AthleteSeasonStats> deltas = new LinkedHashMap<>();
+        for (JumpSample sample : samples) {
+            if (!isTracked(sample)) {
+                continue;
+            }
+            AthleteSeasonStatsId key = new AthleteSeasonStatsId(sample.getAthleteId(), sample.getSeason(), sample.getHillId());
+            AthleteSeasonStats delta = deltas.computeIfAbsent(key, k -> emptyStats(k));
+            delta.setJumpCount(delta.getJumpCount() + 1);
+            if (sample.getJumpLength() != null) {
+                delta.setJumpLengthSum(delta.getJumpLengthSum().add(sample.getJumpLength()));
+                delta.setJumpLengthCount(delta.getJumpLengthCount() + 1);
+                if (delta.getBestJumpLength() == null || sample.getJumpLength().compareTo(delta.getBestJumpLength()) > 0) {
+                    delta.setBestJumpLength(sample.getJumpLength());
+                }
+            }
+            if (sample.getTotalPoints() != null) {
+                delta.setTotalPointsSum(delta.getTotalPointsSum().add(sample.getTotalPoints()));
+                delta.setTotalPointsCount(delta.getTotalPointsCount() + 1);
+            }
+            if (sample.getSpeedTakeoff() != null) {
+                delta.setSpeedTakeoffSum(delta.getSpeedTakeoffSum().add(sample.getSpeedTakeoff()));
+                delta.setSpeedTakeoffCount(delta.getSpeedTakeoffCount() + 1);
+            }
+        }
+
+        for (AthleteSeasonStats delta : deltas.values()) {
+            statsRepository.applyDelta(delta.getAthleteId(), delta.getSeason(), delta.getHillId(),
+                    delta.getJumpCount(),
+                    delta.getJumpLengthSum(), delta.getJumpLengthCount(), delta.getBestJumpLength(),
+                    delta.getTotalPointsSum(), delta.getTotalPointsCount(),
+                    delta.getSpeedTakeoffSum(), delta.getSpeedTakeoffCount());
+        }
+    }
+
+    public void recordRemoved(JumpSample sample) {
+        if (!isTracked(sample)) {
+            return;
+        }
+        statsRepository.applyDelta(sample.getAthleteId(), sample.getSeason(), sample.getHillId(),
+                -1,
+                negate(sample.getJumpLength()), sample.getJumpLength() != null ? -1 : 0, null,
+                negate(sample.getTotalPoints()), sample.getTotalPoints() != null ? -1 : 0,
+                negate(sample.getSpeedTakeoff()), sample.getSpeedTakeoff() != null ? -1 : 0);
+
+        if (sample.getJumpLength() != null) {
+            em.flush();
+            statsRepository.recomputeBestJump(sample.getAthleteId(), sample.getSeason(), sample.getHillId());
+        }
+        statsRepository.deleteIfEmpty(sample.getAthleteId(), sample.getSeason(), sample.getHillId());
+    }
+
+    public void rebuildAthletes(Collection<Integer> athleteIds) {
+        if (athleteIds.isEmpty()) {
+            return;
+        }
+        em.flush();
+        statsRepository.lockForRebuild();
+        statsRepository.deleteByAthleteIds(athleteIds);
+        statsRepository.rebuildAthletes(athleteIds);
+    }
+
+    public Map<String, Integer> rebuildAll() {
+        Map<String, Integer> rebuilt = new TreeMap<>();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        for (String season : seasonPartitionManager.knownSeasons()) {
+            Integer rows = transaction.execute(status -> {
+                statsRepository.lockForRebuild();
+                statsRepository.deleteBySeason(season);
+                return statsRepository.rebuildSeason(season);
+            });
+            rebuilt.put(season, rows);
+        }
+        return rebuilt;
+    }
+
+    public AthleteStatsResponse getAthleteStats(Integer athleteId, String season) {
+        userRepository.findById(athleteId).orElseThrow(() -> new EntityNotFoundException("User not found"));
+
+        List<AthleteSeasonStats> rows = season != null
+                ? statsRepository.findByAthleteIdAndSeasonOrderByHillIdAsc(athleteId, season)
+                : statsRepository.findByAthleteIdOrderBySeasonDescHillIdAsc(athleteId);
+
+        Set<Integer> hillIds = rows.stream().map(AthleteSeasonStats::getHillId).collect(Collectors.toSet());
+        Map<Integer, Hill> hills = hillRepository.findAllById(hillIds).stream()
+                .collect(Collectors.toMap(Hill::getId, Function.identity()));
+
+        Map<String, List<AthleteSeasonStats>> bySeason = rows.stream()
+                .collect(Collectors.groupingBy(AthleteSeasonStats::getSeason, LinkedHashMap::new, Collectors.toList()));
+
+        List<SeasonStats> seasons = new ArrayList<>();
+        for (Map.Entry<String, List<AthleteSeasonStats>> entry : bySeason.entrySet()) {
+            AthleteSeasonStats total = emptyStats(new AthleteSeasonStatsId(athleteId, entry.getKey(), null));
+            List<StatsSummary> perHill = new ArrayList<>();
+            for (AthleteSeasonStats row : entry.getValue()) {
+                merge(total, row);
+                Hill hill = hills.get(row.getHillId());
+                perHill.add(summarize(row, hill != null ? hill.getName() : null));
+            }
+            seasons.add(new SeasonStats(entry.getKey(), summarize(total, null), perHill));
+        }
+
+        return new AthleteStatsResponse(athleteId, seasons);
+    }
+
+    private boolean isTracked(JumpSample sample) {
+        return sample.getAthleteId() != null && sample.getHillId() != null;
+    }
+
+    private AthleteSeasonStats emptyStats(AthleteSeasonStatsId key) {
+        return new AthleteSeasonStats(key.getAthleteId(), key.getSeason(), key.getHillId(), 0,
+                BigDecimal.ZERO, 0, null, BigDecimal.ZERO, 0, BigDecimal.ZERO, 0);
+    }
+
+    private void merge(AthleteSeasonStats target, AthleteSeasonStats row) {
+        target.setJumpCount(target.getJumpCount() + row.getJumpCount());
+        target.setJumpLengthSum(target.getJumpLengthSum().add(row.getJumpLengthSum()));
+        target.setJumpLengthCount(target.getJumpLengthCount() + row.getJumpLengthCount());
+        if (row.getBestJumpLength() != null
+                && (target.getBestJumpLength() == null || row.getBestJumpLength().compareTo(target.getBestJumpLength()) > 0)) {
+            target.setBestJumpLength(row.getBestJumpLength());
+        }
+        target.setTotalPointsSum(target.getTotalPointsSum().add(row.getTotalPointsSum()));
+        target.setTotalPointsCount(target.getTotalPointsCount() + row.getTotalPointsCount());
+        target.setSpeedTakeoffSum(target.getSpeedTakeoffSum().add(row.getSpeedTakeoffSum()));
+        target.setSpeedTakeoffCount(target.getSpeedTakeoffCount() + row.getSpeedTakeoffCount());
+    }
+
+    private StatsSummary summarize(AthleteSeasonStats stats, String hillName) {
+        return new StatsSummary(
+                stats.getHillId(),
+                hillName,
+                stats.getJumpCount(),
+                stats.getBestJumpLength(),
+                average(stats.getJumpLengthSum(), stats.getJumpLengthCount()),
+                average(stats.getTotalPointsSum(), stats.getTotalPointsCount()),
+                average(stats.getSpeedTakeoffSum(), stats.getSpeedTakeoffCount())
+        );
+    }
+
+    private BigDecimal average(BigDecimal sum, int count) {
+        return count == 0 ? null : sum.divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP);
+    }
+
+    private BigDecimal negate(BigDecimal value) {
+        return value != null ? value.negate() : BigDecimal.ZERO;
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.ski_jumping_management.service;
+
+import lombok.Value;
+
+@Value
+public class EventInvalidatedEvent {
+    Integer eventId;
+    boolean deleted;
+}
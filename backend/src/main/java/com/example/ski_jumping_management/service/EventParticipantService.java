@@ -1,6 +1,7 @@
 package com.example.ski_jumping_management.service;
 
 import com.example.ski_jumping_management.DTO.EventParticipantRequest;
+import com.example.ski_jumping_management.DTO.InjuryHandling;
 import com.example.ski_jumping_management.DTO.RecommendationRequest;
 import com.example.ski_jumping_management.exceptions.BadRequestException;
 import com.example.ski_jumping_management.model.*;
@@ -8,15 +9,14 @@ import com.example.ski_jumping_management.repository.EventParticipantRepository;
 import com.example.ski_jumping_management.repository.EventRepository;
 import com.example.ski_jumping_management.repository.ResultRepository;
 import com.example.ski_jumping_management.repository.UserRepository;
+import com.example.ski_jumping_management.security.AccessPolicy;
 import com.example.ski_jumping_management.security.CustomUserDetails;
-import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cglib.core.Local;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
@@ -34,70 +34,15 @@ public class EventParticipantService {
     private final UserRepository userRepository;
     private final ResultRepository resultRepository;
     private final EventService eventService;
-    private final EntityManager em;
-
-    public boolean hasAnyRole(CustomUserDetails userDetails, UserRole... roles) {
-        if (userDetails == null || userDetails.getAuthorities() == null) return false;
-
-        return userDetails.getAuthorities().stream()
-                .map(auth -> auth.getAuthority())
-                .anyMatch(roleName -> {
-                    for (UserRole r : roles) {
-                        if (roleName.equals(r.name())) return true;
-                    }
-                    return false;
-                });
-    }
-
-    private double calculateAthleteScore(List<Result> results, int eventHillSize,
-                                         LocalDate referenceDate, LocalDate oldestAllowedDate) {
-        if (results.isEmpty()) return 0.0;
-
-        double totalScore = 0.0;
-
-        for (Result r : results) {
-            double jumpRatio = r.getJumpLength().doubleValue() / r.getEvent().getHill().getHillSize().doubleValue();
-            double hillFactor = 1 - Math.abs(r.getEvent().getHill().getHillSize().doubleValue() - eventHillSize) / (double) eventHillSize;
-
-            long daysOld = ChronoUnit.DAYS.between(r.getEvent().getStartDate().toLocalDate(), referenceDate);
-            long totalWindow = ChronoUnit.DAYS.between(oldestAllowedDate, referenceDate);
-            double recencyFactor = totalWindow > 0 ? Math.max(0, (double)(totalWindow - daysOld) / totalWindow) : 1.0;
-
-            totalScore += jumpRatio * hillFactor * recencyFactor * r.getEvent().getLevel();
-        }
-
-        return totalScore / results.size();
-    }
-
-    private String calculateSeason(LocalDate startDate) {
-        int year1 = startDate.getYear();
-        int month = startDate.getMonthValue();
-        int year2;
-        if (month >= 5) {
-            year2 = year1 + 1;
-        } else {
-            year2 = year1;
-            year1 = year1 - 1;
-        }
-        return year1 + "/" + year2;
-    }
-
-    @Transactional
-    public void ensurePartitionExists(String season) {
-        String partitionName = "event_participants_" + season.replace("/", "_");
-        String sql = "DO $$ BEGIN " +
-                "IF NOT EXISTS (SELECT 1 FROM pg_tables WHERE tablename = '" + partitionName + "') THEN " +
-                "EXECUTE 'CREATE TABLE " + partitionName + " PARTITION OF event_participants FOR VALUES IN (''" + season + "'');' ;" +
-                "END IF; " +
-                "END $$;";
-        em.createNativeQuery(sql).executeUpdate();
-    }
-
+    private final SeasonPartitionManager seasonPartitionManager;
+    private final RecommendationIndexService recommendationIndexService;
+    private final RecommendationCache recommendationCache;
+    private final AccessPolicy accessPolicy;
 
     public List<EventParticipant> getParticipantsByEventId(Integer eventId) {
-        eventRepository.findById(eventId).orElseThrow(() -> new EntityNotFoundException("Event not found"));
+        Event event = eventRepository.findById(eventId).orElseThrow(() -> new EntityNotFoundException("Event not found"));
 
-        return participantRepository.findByEventId(eventId);
+        return participantRepository.findByEventIdAndSeason(eventId, Seasons.of(event.getStartDate().toLocalDate()));
     }
 
     public List<EventParticipant> getParticipantsByAthleteId(Integer athleteId) {
@@ -108,24 +53,11 @@ public class EventParticipantService {
 
     @Transactional
     public EventParticipant createParticipant(EventParticipantRequest request, CustomUserDetails currentUser) {
+        accessPolicy.requireEventAccess(currentUser, UserRole.TRAINER, request.getEventId(), "Trainer's team not allowed for this event");
+
         Event event = eventRepository.findById(request.getEventId())
                 .orElseThrow(() -> new EntityNotFoundException("Event not found"));
 
-        boolean isAdmin = hasAnyRole(currentUser, UserRole.ADMIN);
-        boolean isTrainer = hasAnyRole(currentUser, UserRole.TRAINER);
-
-        if (isTrainer && !isAdmin) {
-            Set<Integer> trainerTeamIds = currentUser.getUser().getTeams().stream().map(Team::getId).collect(Collectors.toSet());
-
-            Set<Integer> eventTeamIds = event.getEventAllowedTeams().stream().map(Team::getId).collect(Collectors.toSet());
-
-            boolean allowed = trainerTeamIds.stream().anyMatch(eventTeamIds::contains);
-
-            if (!allowed) {
-                throw new AccessDeniedException("Trainer's team not allowed for this event");
-            }
-        }
-
         User athlete = userRepository.findById(request.getAthleteId())
                 .orElseThrow(() -> new EntityNotFoundException("User not found"));
 
@@ -135,7 +67,8 @@ public class EventParticipantService {
             throw new BadRequestException("User must have role ATHLETE to be added as participant");
         }
 
-        boolean alreadyParticipant = participantRepository.existsByEventAndAthlete(event, athlete);
+        boolean alreadyParticipant = participantRepository.existsByEventAndAthleteAndSeason(
+                event, athlete, Seasons.of(event.getStartDate().toLocalDate()));
         if (alreadyParticipant) {
             throw new BadRequestException("User is already registered for this event");
         }
@@ -143,9 +76,9 @@ public class EventParticipantService {
         EventParticipant participant = new EventParticipant();
         participant.setEvent(event);
         participant.setAthlete(athlete);
-        participant.setSeason(calculateSeason(event.getStartDate().toLocalDate()));
+        participant.setSeason(Seasons.of(event.getStartDate().toLocalDate()));
 
-        ensurePartitionExists(participant.getSeason());
+        seasonPartitionManager.ensureSeason(participant.getSeason());
 
         return participantRepository.save(participant);
     }
@@ -153,20 +86,8 @@ public class EventParticipantService {
     public void deleteParticipant(Integer id, CustomUserDetails currentUser) {
         EventParticipant participant = participantRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("EventParticipant not found"));
 
-        Event event = participant.getEvent();
-        boolean isAdmin = hasAnyRole(currentUser, UserRole.ADMIN);
-        boolean isTrainer = hasAnyRole(currentUser, UserRole.TRAINER);
-
-        if (isTrainer && !isAdmin) {
-            Set<Integer> trainerTeamIds = currentUser.getUser().getTeams().stream().map(Team::getId).collect(Collectors.toSet());
-
-            Set<Integer> eventTeamIds = event.getEventAllowedTeams().stream().map(Team::getId).collect(Collectors.toSet());
-
-            boolean allowed = trainerTeamIds.stream().anyMatch(eventTeamIds::contains);
-            if (!allowed) {
-                throw new AccessDeniedException("Trainer's team not allowed to delete this participant");
-            }
-        }
+        accessPolicy.requireEventAccess(currentUser, UserRole.TRAINER, participant.getEvent().getId(),
+                "Trainer's team not allowed to delete this participant");
 
         participantRepository.delete(participant);
     }
@@ -196,48 +117,25 @@ public class EventParticipantService {
         LocalDateTime endDateForFiltering = eventEnd.isAfter(now) ? now : eventEnd;
         LocalDateTime oldestAllowedDateTime = request.getFromDate().atStartOfDay();
 
-        Page<Result> resultPage = resultRepository.findFilteredResults(
-                null,
-                null,
-                null,
-                null,
-                null, null,
-                null, null,
-                null, null,
-                null, null,
-                null, null,
-                null, null,
-                null, null,
-                oldestAllowedDateTime,
-                endDateForFiltering,
-                Pageable.unpaged()
-        );
-
-        List<Result> recentResults = resultPage.getContent();
-
-        Map<User, List<Result>> resultsByAthlete = recentResults.stream()
-                .collect(Collectors.groupingBy(Result::getAthlete));
-
-        Map<User, Double> scoreMap = new HashMap<>();
-
-        for (Map.Entry<User, List<Result>> entry : resultsByAthlete.entrySet()) {
-            User athlete = entry.getKey();
-            List<Result> results = entry.getValue();
-
-            double athleteScore = calculateAthleteScore(
-                    results,
-                    eventHillSize,
-                    endDateForFiltering.toLocalDate(),
-                    oldestAllowedDateTime.toLocalDate()
-            );
-
-            scoreMap.put(athlete, athleteScore);
+        LocalDate referenceDate = endDateForFiltering.toLocalDate();
+        LocalDate oldestAllowedDate = oldestAllowedDateTime.toLocalDate();
+        if (oldestAllowedDate.isAfter(referenceDate)) {
+            return List.of();
         }
 
-        return scoreMap.entrySet().stream()
-                .sorted((a, b) -> Double.compare(b.getValue(), a.getValue()))
-                .limit(request.getLimit())
-                .map(Map.Entry::getKey)
+        InjuryHandling injuryHandling = request.getInjuryHandling() != null ? request.getInjuryHandling() : InjuryHandling.DOWN_WEIGHT;
+        LocalDate eventStart = event.getStartDate().toLocalDate();
+        LocalDate eventEndDay = eventEnd.toLocalDate();
+
+        List<Integer> rankedIds = recommendationCache.get(event.getId(), oldestAllowedDate, referenceDate, request.getLimit(), injuryHandling,
+                () -> recommendationIndexService.topAthletes(eventHillSize, oldestAllowedDate, referenceDate, request.getLimit(),
+                        eventStart, eventEndDay, injuryHandling));
+        Map<Integer, User> athletes = userRepository.findAllById(rankedIds).stream()
+                .collect(Collectors.toMap(User::getId, athlete -> athlete));
+
+        return rankedIds.stream()
+                .map(athletes::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
     }
 
@@ -1,25 +1,35 @@
 package com.example.ski_jumping_management.service;
 
+import com.example.ski_jumping_management.DTO.CursorPage;
 import com.example.ski_jumping_management.DTO.EventRequest;
 import com.example.ski_jumping_management.exceptions.BadRequestException;
 import com.example.ski_jumping_management.model.Event;
 import com.example.ski_jumping_management.model.EventType;
 import com.example.ski_jumping_management.model.Hill;
 import com.example.ski_jumping_management.model.Team;
+import com.example.ski_jumping_management.repository.EventParticipantRepository;
 import com.example.ski_jumping_management.repository.EventRepository;
 import com.example.ski_jumping_management.repository.HillRepository;
+import com.example.ski_jumping_management.repository.ResultRepository;
 import com.example.ski_jumping_management.repository.TeamRepository;
+import com.example.ski_jumping_management.repository.specification.EventFilter;
+import com.example.ski_jumping_management.repository.specification.EventSpecifications;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -30,6 +40,13 @@ public class EventService {
     private final EventRepository eventRepository;
     private final HillRepository hillRepository;
     private final TeamRepository teamRepository;
+    private final ResultRepository resultRepository;
+    private final EventParticipantRepository participantRepository;
+    private final SeasonPartitionManager seasonPartitionManager;
+    private final KeysetCursors keysetCursors;
+    private final AthleteStatsService athleteStatsService;
+    private final RecommendationIndexService recommendationIndexService;
+    private final ApplicationEventPublisher eventPublisher;
 
     private Set<Team> getAllowedTeamsFromIds(Set<Integer> teamIds) {
         return teamIds.stream()
@@ -38,6 +55,40 @@ public class EventService {
                 .collect(Collectors.toSet());
     }
 
+    private EventFilter buildFilter(
+            String name,
+            EventType type,
+            Integer hillId,
+            LocalDate startDateFrom,
+            LocalDate startDateTo,
+            LocalDate endDateFrom,
+            LocalDate endDateTo,
+            String description,
+            Short level,
+            List<Integer> teamIds,
+            List<Integer> athleteIds
+    ) {
+        LocalDateTime startDateFromDateTime = startDateFrom != null ? startDateFrom.atStartOfDay() : null;
+        LocalDateTime startDateToDateTime = startDateTo != null ? startDateTo.atTime(23, 59, 59) : null;
+
+        LocalDateTime endDateFromDateTime = endDateFrom != null ? endDateFrom.atStartOfDay() : null;
+        LocalDateTime endDateToDateTime = endDateTo != null ? endDateTo.atTime(23, 59, 59) : null;
+
+        return EventFilter.builder()
+                .name(name)
+                .type(type)
+                .hillId(hillId)
+                .startDateFrom(startDateFromDateTime)
+                .startDateTo(startDateToDateTime)
+                .endDateFrom(endDateFromDateTime)
+                .endDateTo(endDateToDateTime)
+                .description(description)
+                .level(level)
+                .teamIds(teamIds)
+                .athleteIds(athleteIds)
+                .build();
+    }
+
     public Page<Event> getEvents(
             String name,
             EventType type,
@@ -61,17 +112,39 @@ public class EventService {
 
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        LocalDateTime startDateFromDateTime = startDateFrom != null ? startDateFrom.atStartOfDay() : null;
-        LocalDateTime startDateToDateTime = startDateTo != null ? startDateTo.atTime(23, 59, 59) : null;
+        EventFilter filter = buildFilter(name, type, hillId, startDateFrom, startDateTo, endDateFrom, endDateTo,
+                description, level, teamIds, athleteIds);
 
-        LocalDateTime endDateFromDateTime = endDateFrom != null ? endDateFrom.atStartOfDay() : null;
-        LocalDateTime endDateToDateTime = endDateTo != null ? endDateTo.atTime(23, 59, 59) : null;
+        return eventRepository.findAll(EventSpecifications.matching(filter), pageable);
+    }
 
-        return eventRepository.findFilteredEvents(
-                name, type, hillId, startDateFromDateTime, startDateToDateTime,
-                endDateFromDateTime, endDateToDateTime, description, level,
-                teamIds, athleteIds, pageable
-        );
+    public CursorPage<Event> getEventsAfter(
+            String name,
+            EventType type,
+            Integer hillId,
+            LocalDate startDateFrom,
+            LocalDate startDateTo,
+            LocalDate endDateFrom,
+            LocalDate endDateTo,
+            String description,
+            Short level,
+            List<Integer> teamIds,
+            List<Integer> athleteIds,
+            String after,
+            int limit,
+            String sortBy,
+            String sortDirection
+    ) {
+        Sort sort = keysetCursors.sort(Event.class, sortBy, sortDirection);
+        KeysetScrollPosition position = keysetCursors.decode(after, Event.class, sort);
+        int pageLimit = keysetCursors.limit(limit);
+
+        EventFilter filter = buildFilter(name, type, hillId, startDateFrom, startDateTo, endDateFrom, endDateTo,
+                description, level, teamIds, athleteIds);
+
+        Window<Event> window = eventRepository.findBy(EventSpecifications.matching(filter),
+                query -> query.sortBy(sort).limit(pageLimit).scroll(position));
+        return keysetCursors.page(window);
     }
 
     public boolean existsByHillId(Integer id){
@@ -166,10 +239,27 @@ public class EventService {
         return eventRepository.save(event);
     }
 
+    private void moveEventToSeason(Integer eventId, String oldSeason, String newSeason) {
+        seasonPartitionManager.ensureSeason(newSeason);
+        resultRepository.moveEventToSeason(eventId, oldSeason, newSeason);
+        participantRepository.moveEventToSeason(eventId, oldSeason, newSeason);
+    }
+
+    @Transactional
     public Event updateEvent(Integer id, EventRequest request) {
         Event event = eventRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Event not found"));
 
+        if (request.getStartDate() == null) {
+            throw new BadRequestException("startDate must be provided");
+        }
+
+        String oldSeason = Seasons.of(event.getStartDate().toLocalDate());
+        String newSeason = Seasons.of(request.getStartDate().toLocalDate());
+        Integer oldHillId = event.getHill().getId();
+        LocalDate oldDay = event.getStartDate().toLocalDate();
+        Short oldLevel = event.getLevel();
+
         Hill hill = hillRepository.findById(request.getHillId())
                 .orElseThrow(() -> new EntityNotFoundException("Hill not found"));
 
@@ -182,12 +272,35 @@ public class EventService {
         event.setLevel(request.getLevel());
         event.setEventAllowedTeams(getAllowedTeamsFromIds(request.getAllowedTeamIds()));
 
-        return eventRepository.save(event);
+        Event saved = eventRepository.save(event);
+        if (!oldSeason.equals(newSeason)) {
+            moveEventToSeason(saved.getId(), oldSeason, newSeason);
+        }
+        boolean statsMoved = !oldSeason.equals(newSeason) || !oldHillId.equals(hill.getId());
+        boolean scoresMoved = !oldDay.equals(saved.getStartDate().toLocalDate())
+                || !oldHillId.equals(hill.getId())
+                || !Objects.equals(oldLevel, saved.getLevel());
+        if (statsMoved || scoresMoved) {
+            List<Integer> athleteIds = resultRepository.findAthleteIdsByEventId(saved.getId());
+            if (statsMoved) {
+                athleteStatsService.rebuildAthletes(athleteIds);
+            }
+            if (scoresMoved) {
+                recommendationIndexService.rebuildAthletes(athleteIds);
+            }
+        }
+        eventPublisher.publishEvent(new EventInvalidatedEvent(saved.getId(), false));
+        return saved;
     }
 
+    @Transactional
     public void deleteEvent(Integer id) {
         Event event = eventRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Event not found"));
+        List<Integer> athleteIds = resultRepository.findAthleteIdsByEventId(id);
         eventRepository.delete(event);
+        athleteStatsService.rebuildAthletes(athleteIds);
+        recommendationIndexService.rebuildAthletes(athleteIds);
+        eventPublisher.publishEvent(new EventInvalidatedEvent(id, true));
     }
 }
@@ -0,0 +1,8 @@
+package com.example.ski_jumping_management.service;
+
+import lombok.Value;
+
+@Value
+public class HillResizedEvent {
+    Integer hillId;
+}
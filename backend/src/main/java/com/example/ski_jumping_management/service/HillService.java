@@ -4,8 +4,13 @@ import com.example.ski_jumping_management.exceptions.BadRequestException;
 import com.example.ski_jumping_management.model.Hill;
 import com.example.ski_jumping_management.repository.EventRepository;
 import com.example.ski_jumping_management.repository.HillRepository;
+import com.example.ski_jumping_management.repository.ResultRepository;
+import com.example.ski_jumping_management.repository.specification.HillFilter;
+import com.example.ski_jumping_management.repository.specification.HillSpecifications;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -14,6 +19,7 @@ import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
@@ -21,6 +27,9 @@ public class HillService {
 
     private final HillRepository hillRepository;
     private final EventRepository eventRepository;
+    private final ResultRepository resultRepository;
+    private final RecommendationIndexService recommendationIndexService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Page<Hill> getHills(
             String name,
@@ -47,13 +56,19 @@ public class HillService {
             sort = Sort.by(direction, sortBy);
         }
         Pageable pageable = PageRequest.of(page, size, sort);
-        return hillRepository.findHills(
-                name, city, country,
-                minHillSize, maxHillSize,
-                minKPoint, maxKPoint,
-                latitude, longitude,
-                pageable
-        );
+        HillFilter filter = HillFilter.builder()
+                .name(name)
+                .city(city)
+                .country(country)
+                .minHillSize(minHillSize)
+                .maxHillSize(maxHillSize)
+                .minKPoint(minKPoint)
+                .maxKPoint(maxKPoint)
+                .latitude(latitude)
+                .longitude(longitude)
+                .build();
+
+        return hillRepository.findAll(HillSpecifications.matching(filter), pageable);
     }
 
     public Hill getHill(Integer id) {
@@ -64,8 +79,10 @@ public class HillService {
         return hillRepository.save(hill);
     }
 
+    @Transactional
     public Hill updateHill(Integer id, Hill hillDetails) {
         Hill hill = hillRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("Hill not found"));
+        boolean sizeChanged = !Objects.equals(hill.getHillSize(), hillDetails.getHillSize());
 
         hill.setName(hillDetails.getName());
         hill.setCity(hillDetails.getCity());
@@ -75,7 +92,12 @@ public class HillService {
         hill.setLatitude(hillDetails.getLatitude());
         hill.setLongitude(hillDetails.getLongitude());
 
-        return hillRepository.save(hill);
+        Hill saved = hillRepository.save(hill);
+        if (sizeChanged) {
+            recommendationIndexService.rebuildAthletes(resultRepository.findAthleteIdsByHillId(saved.getId()));
+            eventPublisher.publishEvent(new HillResizedEvent(saved.getId()));
+        }
+        return saved;
     }
 
     public void deleteHill(Integer id) {
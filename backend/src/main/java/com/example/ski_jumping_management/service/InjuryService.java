@@ -1,25 +1,30 @@
 package com.example.ski_jumping_management.service;
 
+import com.example.ski_jumping_management.DTO.CursorPage;
 import com.example.ski_jumping_management.DTO.InjuryRequest;
 import com.example.ski_jumping_management.exceptions.BadRequestException;
 import com.example.ski_jumping_management.model.*;
 import com.example.ski_jumping_management.repository.InjuryRepository;
 import com.example.ski_jumping_management.repository.UserRepository;
+import com.example.ski_jumping_management.repository.specification.InjuryFilter;
+import com.example.ski_jumping_management.repository.specification.InjurySpecifications;
+import com.example.ski_jumping_management.security.AccessPolicy;
 import com.example.ski_jumping_management.security.CustomUserDetails;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.security.access.AccessDeniedException;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -27,24 +32,38 @@ public class InjuryService {
 
     private final InjuryRepository injuryRepository;
     private final UserRepository userRepository;
-
-    public boolean hasAnyRole(CustomUserDetails userDetails, UserRole... roles) {
-        if (userDetails == null || userDetails.getAuthorities() == null) return false;
-
-        return userDetails.getAuthorities().stream()
-                .map(auth -> auth.getAuthority())
-                .anyMatch(roleName -> {
-                    for (UserRole r : roles) {
-                        if (roleName.equals(r.name())) return true;
-                    }
-                    return false;
-                });
-    }
+    private final KeysetCursors keysetCursors;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AccessPolicy accessPolicy;
 
     public Injury getInjuryById(Integer id) {
         return injuryRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("Injury not found"));
     }
 
+    private InjuryFilter buildFilter(
+            List<Integer> athleteIds,
+            List<Integer> teamIds,
+            SeverityLevel severity,
+            LocalDate injuryFrom,
+            LocalDate injuryTo,
+            LocalDate recoveryFrom,
+            LocalDate recoveryTo,
+            LocalDate eventStart,
+            LocalDate eventEnd
+    ) {
+        return InjuryFilter.builder()
+                .athleteIds(athleteIds)
+                .severity(severity)
+                .injuryFrom(injuryFrom)
+                .injuryTo(injuryTo)
+                .recoveryFrom(recoveryFrom)
+                .recoveryTo(recoveryTo)
+                .teamIds(teamIds)
+                .eventStart(eventStart)
+                .eventEnd(eventEnd)
+                .build();
+    }
+
     public Page<Injury> getInjuries(
             List<Integer> athleteIds,
             List<Integer> teamIds,
@@ -62,22 +81,43 @@ public class InjuryService {
     ) {
         Sort sort = sortDirection.equalsIgnoreCase("desc") ? Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
         Pageable pageable = PageRequest.of(page, size, sort);
-        return injuryRepository.findFilteredInjuries(
-                athleteIds,
-                severity,
-                injuryFrom,
-                injuryTo,
-                recoveryFrom,
-                recoveryTo,
-                teamIds,
-                eventStart,
-                eventEnd,
-                pageable
-        );
+        InjuryFilter filter = buildFilter(athleteIds, teamIds, severity, injuryFrom, injuryTo,
+                recoveryFrom, recoveryTo, eventStart, eventEnd);
+
+        return injuryRepository.findAll(InjurySpecifications.matching(filter), pageable);
     }
 
+    public CursorPage<Injury> getInjuriesAfter(
+            List<Integer> athleteIds,
+            List<Integer> teamIds,
+            SeverityLevel severity,
+            LocalDate injuryFrom,
+            LocalDate injuryTo,
+            LocalDate recoveryFrom,
+            LocalDate recoveryTo,
+            LocalDate eventStart,
+            LocalDate eventEnd,
+            String after,
+            int limit,
+            String sortBy,
+            String sortDirection
+    ) {
+        Sort sort = keysetCursors.sort(Injury.class, sortBy, sortDirection);
+        KeysetScrollPosition position = keysetCursors.decode(after, Injury.class, sort);
+        int pageLimit = keysetCursors.limit(limit);
+
+        InjuryFilter filter = buildFilter(athleteIds, teamIds, severity, injuryFrom, injuryTo,
+                recoveryFrom, recoveryTo, eventStart, eventEnd);
 
+        Window<Injury> window = injuryRepository.findBy(InjurySpecifications.matching(filter),
+                query -> query.sortBy(sort).limit(pageLimit).scroll(position));
+        return keysetCursors.page(window);
+    }
+
+    @Transactional
     public Injury createInjury(InjuryRequest request, CustomUserDetails currentUser) {
+        accessPolicy.requireAthleteAccess(currentUser, UserRole.INJURY_MANAGER, request.getAthleteId(),
+                "You cannot create injuries for athletes outside your teams");
 
         User athlete = userRepository.findById(request.getAthleteId())
                 .orElseThrow(() -> new EntityNotFoundException("Athlete not found"));
@@ -87,21 +127,6 @@ public class InjuryService {
             throw new BadRequestException("User must have role ATHLETE to create an injury");
         }
 
-        boolean isAdmin = hasAnyRole(currentUser, UserRole.ADMIN);
-        boolean isInjuryManager = hasAnyRole(currentUser, UserRole.INJURY_MANAGER);
-
-        if (isInjuryManager && !isAdmin) {
-            Set<Integer> managerTeamIds = currentUser.getUser().getTeams().stream().map(Team::getId).collect(Collectors.toSet());
-
-            Set<Integer> athleteTeamIds = athlete.getTeams().stream().map(Team::getId).collect(Collectors.toSet());
-
-            boolean allowed = athleteTeamIds.stream().anyMatch(managerTeamIds::contains);
-
-            if (!allowed) {
-                throw new AccessDeniedException("You cannot create injuries for athletes outside your teams");
-            }
-        }
-
         Injury injury = new Injury();
         injury.setAthlete(athlete);
         injury.setInjuryDate(request.getInjuryDate());
@@ -109,28 +134,20 @@ public class InjuryService {
         injury.setSeverity(request.getSeverity());
         injury.setDescription(request.getDescription());
 
-        return injuryRepository.save(injury);
+        Injury saved = injuryRepository.save(injury);
+        eventPublisher.publishEvent(new InjuryChangedEvent(athlete.getId()));
+        return saved;
     }
 
+    @Transactional
     public Injury updateInjury(Integer id, InjuryRequest request, CustomUserDetails currentUser) {
         Injury injury = injuryRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("Injury not found"));
+        Integer previousAthleteId = injury.getAthlete().getId();
 
-        User athlete = userRepository.findById(request.getAthleteId()).orElseThrow(() -> new EntityNotFoundException("Athlete not found"));
-
-        boolean isAdmin = hasAnyRole(currentUser, UserRole.ADMIN);
-        boolean isInjuryManager = hasAnyRole(currentUser, UserRole.INJURY_MANAGER);
-
-        if (isInjuryManager && !isAdmin) {
-            Set<Integer> managerTeamIds = currentUser.getUser().getTeams().stream().map(Team::getId).collect(Collectors.toSet());
-
-            Set<Integer> athleteTeamIds = athlete.getTeams().stream().map(Team::getId).collect(Collectors.toSet());
+        accessPolicy.requireAthleteAccess(currentUser, UserRole.INJURY_MANAGER, request.getAthleteId(),
+                "You cannot update injuries for athletes outside your teams");
 
-            boolean allowed = athleteTeamIds.stream().anyMatch(managerTeamIds::contains);
-
-            if (!allowed) {
-                throw new AccessDeniedException("You cannot update injuries for athletes outside your teams");
-            }
-        }
+        User athlete = userRepository.findById(request.getAthleteId()).orElseThrow(() -> new EntityNotFoundException("Athlete not found"));
 
         injury.setAthlete(athlete);
         injury.setInjuryDate(request.getInjuryDate());
@@ -138,29 +155,24 @@ public class InjuryService {
         injury.setSeverity(request.getSeverity());
         injury.setDescription(request.getDescription());
 
-        return injuryRepository.save(injury);
+        Injury saved = injuryRepository.save(injury);
+        eventPublisher.publishEvent(new InjuryChangedEvent(previousAthleteId));
+        if (!previousAthleteId.equals(athlete.getId())) {
+            eventPublisher.publishEvent(new InjuryChangedEvent(athlete.getId()));
+        }
+        return saved;
     }
 
+    @Transactional
     public void deleteInjury(Integer id, CustomUserDetails currentUser) {
         Injury injury = injuryRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("Injury not found"));
 
         User athlete = injury.getAthlete();
 
-        boolean isAdmin = hasAnyRole(currentUser, UserRole.ADMIN);
-        boolean isInjuryManager = hasAnyRole(currentUser, UserRole.INJURY_MANAGER);
-
-        if (isInjuryManager && !isAdmin) {
-            Set<Integer> managerTeamIds = currentUser.getUser().getTeams().stream().map(Team::getId).collect(Collectors.toSet());
-
-            Set<Integer> athleteTeamIds = athlete.getTeams().stream().map(Team::getId).collect(Collectors.toSet());
-
-            boolean allowed = athleteTeamIds.stream().anyMatch(managerTeamIds::contains);
-
-            if (!allowed) {
-                throw new AccessDeniedException("You cannot delete injuries for athletes outside your teams");
-            }
-        }
+        accessPolicy.requireAthleteAccess(currentUser, UserRole.INJURY_MANAGER, athlete.getId(),
+                "You cannot delete injuries for athletes outside your teams");
 
         injuryRepository.delete(injury);
+        eventPublisher.publishEvent(new InjuryChangedEvent(athlete.getId()));
     }
 }
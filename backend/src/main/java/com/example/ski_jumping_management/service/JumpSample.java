@@ -0,0 +1,36 @@
+package com.example.ski_jumping_management.service;
+
+import com.example.ski_jumping_management.model.Event;
+import com.example.ski_jumping_management.model.Result;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Value
+public class JumpSample {
+    Integer athleteId;
+    String season;
+    Integer hillId;
+    Short hillSize;
+    LocalDate eventDay;
+    Short level;
+    BigDecimal jumpLength;
+    BigDecimal totalPoints;
+    BigDecimal speedTakeoff;
+
+    public static JumpSample of(Result result) {
+        Event event = result.getEvent();
+        return new JumpSample(
+                result.getAthlete() != null ? result.getAthlete().getId() : null,
+                result.getSeason(),
+                event != null ? event.getHill().getId() : null,
+                event != null ? event.getHill().getHillSize() : null,
+                event != null && event.getStartDate() != null ? event.getStartDate().toLocalDate() : null,
+                event != null ? event.getLevel() : null,
+                result.getJumpLength(),
+                result.getTotalPoints(),
+                result.getSpeedTakeoff()
+        );
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.ski_jumping_management.service;
+
+import com.example.ski_jumping_management.DTO.CursorPage;
+import com.example.ski_jumping_management.exceptions.BadRequestException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.SingularAttribute;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class KeysetCursors {
+
+    public static final int MAX_LIMIT = 500;
+
+    private static final TypeReference<LinkedHashMap<String, Object>> KEYS_TYPE = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper;
+    private final EntityManager em;
+
+    public Sort sort(Class<?> entityType, String sortBy, String sortDirection) {
+        Sort.Direction direction = Sort.Direction.fromOptionalString(sortDirection).orElse(Sort.Direction.ASC);
+        if (sortBy == null || sortBy.isBlank() || sortBy.equals("id")) {
+            return Sort.by(direction, "id");
+        }
+        if (!isNonNullAttribute(entityType, sortBy)) {
+            throw new BadRequestException("sortBy must be a non-null attribute for cursor pagination: " + sortBy);
+        }
+        return Sort.by(direction, sortBy, "id");
+    }
+
+    public int limit(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new BadRequestException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        return limit;
+    }
+
+    public KeysetScrollPosition decode(String cursor, Class<?> entityType, Sort sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        Map<String, Object> raw;
+        try {
+            raw = objectMapper.readValue(Base64.getUrlDecoder().decode(cursor), KEYS_TYPE);
+        } catch (IllegalArgumentException | IOException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        for (Sort.Order order : sort) {
+            if (!raw.containsKey(order.getProperty())) {
+                throw new BadRequestException("Cursor does not match the requested sort");
+            }
+            Object value = raw.get(order.getProperty());
+            if (value == null) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            try {
+                Class<?> type = attributeType(entityType, order.getProperty());
+                keys.put(order.getProperty(), objectMapper.convertValue(value, type));
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("Invalid cursor");
+            }
+        }
+        return ScrollPosition.forward(keys);
+    }
+
+    public <T> CursorPage<T> page(Window<T> window) {
+        String nextCursor = null;
+        if (window.hasNext() && !window.isEmpty()) {
+            KeysetScrollPosition position = (KeysetScrollPosition) window.positionAt(window.size() - 1);
+            nextCursor = encode(position.getKeys());
+        }
+        return new CursorPage<>(window.getContent(), nextCursor, window.hasNext());
+    }
+
+    private String encode(Map<String, ?> keys) {
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(objectMapper.writeValueAsBytes(keys));
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot encode cursor", e);
+        }
+    }
+
+    private boolean isNonNullAttribute(Class<?> entityType, String path) {
+        ManagedType<?> type = em.getMetamodel().managedType(entityType);
+        String[] parts = path.split("\\.");
+        for (int i = 0; i < parts.length; i++) {
+            Attribute<?, ?> attribute;
+            try {
+                attribute = type.getAttribute(parts[i]);
+            } catch (IllegalArgumentException e) {
+                return false;
+            }
+            if (!(attribute instanceof SingularAttribute<?, ?> singular) || singular.isOptional()) {
+                return false;
+            }
+            if (attribute.getPersistentAttributeType() == Attribute.PersistentAttributeType.BASIC) {
+                return i == parts.length - 1;
+            }
+            type = em.getMetamodel().managedType(attribute.getJavaType());
+        }
+        return false;
+    }
+
+    private Class<?> attributeType(Class<?> entityType, String path) {
+        ManagedType<?> type = em.getMetamodel().managedType(entityType);
+        Class<?> javaType = entityType;
+        for (String part : path.split("\\.")) {
+            Attribute<?, ?> attribute = type.getAttribute(part);
+            javaType = attribute.getJavaType();
+            if (attribute.getPersistentAttributeType() == Attribute.PersistentAttributeType.BASIC) {
+                break;
+            }
+            type = em.getMetamodel().managedType(javaType);
+        }
+        return javaType;
+    }
+}
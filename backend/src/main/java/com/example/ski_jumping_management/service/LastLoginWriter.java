@@ -0,0 +1,56 @@
+package com.example.ski_jumping_management.service;
+
+import com.example.ski_jumping_management.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@RequiredArgsConstructor
+public class LastLoginWriter {
+
+    private final UserRepository userRepository;
+
+    private final Map<Integer, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    public void record(Integer userId, LocalDateTime loginDate) {
+        pending.merge(userId, loginDate, (current, next) -> next.isAfter(current) ? next : current);
+    }
+
+    @Scheduled(fixedDelayString = "${security.last-login.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, LocalDateTime> batch = new HashMap<>();
+        for (Integer userId : pending.keySet()) {
+            LocalDateTime loginDate = pending.remove(userId);
+            if (loginDate != null) {
+                batch.put(userId, loginDate);
+            }
+        }
+
+        try {
+            userRepository.updateLastLogins(batch);
+        } catch (RuntimeException e) {
+            batch.forEach(this::record);
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void drain() {
+        flush();
+    }
+
+    int pendingCount() {
+        return pending.size();
+    }
+}
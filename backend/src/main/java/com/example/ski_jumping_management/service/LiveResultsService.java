@@ -0,0 +1,196 @@
+package com.example.ski_jumping_management.service;
+
+import com.example.ski_jumping_management.DTO.ResultView;
+import com.example.ski_jumping_management.repository.EventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+@Service
+public class LiveResultsService {
+
+    static final int BUFFER_CAPACITY = 256;
+
+    private final EventRepository eventRepository;
+    private final ObjectMapper objectMapper;
+    private final Supplier<SseEmitter> emitters;
+
+    private final Map<Integer, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Autowired
+    public LiveResultsService(EventRepository eventRepository, ObjectMapper objectMapper) {
+        this(eventRepository, objectMapper, () -> new SseEmitter(0L));
+    }
+
+    LiveResultsService(EventRepository eventRepository, ObjectMapper objectMapper, Supplier<SseEmitter> emitters) {
+        this.eventRepository = eventRepository;
+        this.objectMapper = objectMapper;
+        this.emitters = emitters;
+    }
+
+    public SseEmitter subscribe(Integer eventId) {
+        if (!eventRepository.existsById(eventId)) {
+            throw new EntityNotFoundException("Event not found");
+        }
+
+        SseEmitter emitter = emitters.get();
+        Subscriber subscriber = new Subscriber(eventId, emitter);
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(error -> unsubscribe(subscriber));
+
+        subscribers.compute(eventId, (id, eventSubscribers) -> {
+            Set<Subscriber> updated = eventSubscribers != null ? eventSubscribers : ConcurrentHashMap.newKeySet();
+            updated.add(subscriber);
+            return updated;
+        });
+        deliver(subscriber, SseEmitter.event().comment("subscribed").build());
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onResultChanged(ResultChangedEvent event) {
+        ResultView before = event.getBefore();
+        ResultView after = event.getAfter();
+        if (before != null && (after == null || !before.getEventId().equals(after.getEventId()))) {
+            broadcast(before.getEventId(), message("deleted", before.getId(), Map.of("id", before.getId())));
+        }
+        if (after != null) {
+            broadcast(after.getEventId(), message("result", after.getId(), after));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEventInvalidated(EventInvalidatedEvent event) {
+        if (!event.isDeleted()) {
+            return;
+        }
+        Set<Subscriber> removed = subscribers.remove(event.getEventId());
+        if (removed != null) {
+            removed.forEach(this::close);
+        }
+    }
+
+    @Scheduled(fixedRate = 15_000)
+    public void heartbeat() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        Set<ResponseBodyEmitter.DataWithMediaType> ping = SseEmitter.event().comment("ping").build();
+        for (Set<Subscriber> eventSubscribers : subscribers.values()) {
+            eventSubscribers.forEach(subscriber -> deliver(subscriber, ping));
+        }
+    }
+
+    public int subscriberCount(Integer eventId) {
+        Set<Subscriber> eventSubscribers = subscribers.get(eventId);
+        return eventSubscribers != null ? eventSubscribers.size() : 0;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(eventSubscribers -> eventSubscribers.forEach(this::close));
+        subscribers.clear();
+        senders.shutdown();
+    }
+
+    private void broadcast(Integer eventId, Set<ResponseBodyEmitter.DataWithMediaType> message) {
+        Set<Subscriber> eventSubscribers = subscribers.get(eventId);
+        if (eventSubscribers == null) {
+            return;
+        }
+        eventSubscribers.forEach(subscriber -> deliver(subscriber, message));
+    }
+
+    private void deliver(Subscriber subscriber, Set<ResponseBodyEmitter.DataWithMediaType> message) {
+        if (subscriber.closed.get()) {
+            return;
+        }
+        if (!subscriber.queue.offer(message)) {
+            unsubscribe(subscriber);
+            close(subscriber);
+            return;
+        }
+        if (subscriber.draining.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        do {
+            Set<ResponseBodyEmitter.DataWithMediaType> message;
+            while (!subscriber.closed.get() && (message = subscriber.queue.poll()) != null) {
+                try {
+                    subscriber.emitter.send(message);
+                } catch (IOException | IllegalStateException e) {
+                    unsubscribe(subscriber);
+                    subscriber.closed.set(true);
+                    subscriber.queue.clear();
+                    subscriber.emitter.completeWithError(e);
+                }
+            }
+            subscriber.draining.set(false);
+        } while (!subscriber.closed.get() && !subscriber.queue.isEmpty() && subscriber.draining.compareAndSet(false, true));
+    }
+
+    private void close(Subscriber subscriber) {
+        if (subscriber.closed.compareAndSet(false, true)) {
+            subscriber.queue.clear();
+            senders.execute(subscriber.emitter::complete);
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.eventId, (id, eventSubscribers) -> {
+            eventSubscribers.remove(subscriber);
+            return eventSubscribers.isEmpty() ? null : eventSubscribers;
+        });
+    }
+
+    private Set<ResponseBodyEmitter.DataWithMediaType> message(String name, Integer id, Object payload) {
+        try {
+            return SseEmitter.event()
+                    .name(name)
+                    .id(String.valueOf(id))
+                    .data(objectMapper.writeValueAsString(payload), MediaType.APPLICATION_JSON)
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static class Subscriber {
+        private final Integer eventId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> queue = new ArrayBlockingQueue<>(BUFFER_CAPACITY);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscriber(Integer eventId, SseEmitter emitter) {
+            this.eventId = eventId;
+            this.emitter = emitter;
+        }
+    }
+}
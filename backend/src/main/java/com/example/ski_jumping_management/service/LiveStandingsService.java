@@ -0,0 +1,91 @@
+package com.example.ski_jumping_management.service;
+
+import com.example.ski_jumping_management.DTO.ResultView;
+import com.example.ski_jumping_management.DTO.StandingsEntry;
+import com.example.ski_jumping_management.model.Event;
+import com.example.ski_jumping_management.repository.EventRepository;
+import com.example.ski_jumping_management.repository.ResultRepository;
+import com.example.ski_jumping_management.repository.specification.ResultFilter;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@RequiredArgsConstructor
+public class LiveStandingsService {
+
+    private static final long IDLE_EVICTION_MILLIS = Duration.ofHours(2).toMillis();
+
+    private final EventRepository eventRepository;
+    private final ResultRepository resultRepository;
+
+    private final Map<Integer, StandingsBoard> boards = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        for (Integer eventId : eventRepository.findIdsInProgress(LocalDateTime.now())) {
+            getStandings(eventId);
+        }
+    }
+
+    public List<StandingsEntry> getStandings(Integer eventId) {
+        StandingsBoard board = boards.get(eventId);
+        if (board == null || !board.isLoaded()) {
+            Event event = eventRepository.findById(eventId)
+                    .orElseThrow(() -> new EntityNotFoundException("Event not found"));
+            String season = Seasons.of(event.getStartDate().toLocalDate());
+            board = boards.computeIfAbsent(eventId, StandingsBoard::new);
+            board.ensureLoaded(() -> loadResults(eventId, season));
+        }
+        return board.snapshot();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onResultChanged(ResultChangedEvent event) {
+        ResultView before = event.getBefore();
+        ResultView after = event.getAfter();
+        if (before != null && (after == null || !before.getEventId().equals(after.getEventId()))) {
+            StandingsBoard board = boards.get(before.getEventId());
+            if (board != null) {
+                board.delete(before.getId());
+            }
+        }
+        if (after != null) {
+            StandingsBoard board = boards.get(after.getEventId());
+            if (board != null) {
+                board.put(after);
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEventInvalidated(EventInvalidatedEvent event) {
+        boards.remove(event.getEventId());
+    }
+
+    @Scheduled(fixedDelay = 10 * 60 * 1000)
+    public void evictIdleBoards() {
+        long threshold = System.currentTimeMillis() - IDLE_EVICTION_MILLIS;
+        boards.values().removeIf(board -> board.getLastAccess() < threshold);
+    }
+
+    private List<ResultView> loadResults(Integer eventId, String season) {
+        ResultFilter filter = ResultFilter.builder()
+                .eventId(eventId)
+                .partitionSeasons(List.of(season))
+                .build();
+        return resultRepository.findViews(filter, Pageable.unpaged()).getContent();
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.ski_jumping_management.service;
+
+import com.example.ski_jumping_management.DTO.InjuryHandling;
+import lombok.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Component
+public class RecommendationCache {
+
+    static final int SCORING_VERSION = 1;
+    private static final int MAX_ENTRIES = 512;
+
+    private final AtomicLong generation = new AtomicLong();
+    private final Map<Key, CompletableFuture<List<Integer>>> entries = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, CompletableFuture<List<Integer>>> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    public List<Integer> get(Integer eventId, LocalDate fromDate, LocalDate referenceDate, int limit,
+                             InjuryHandling injuryHandling, Supplier<List<Integer>> loader) {
+        Key key = new Key(eventId, fromDate, referenceDate, limit, injuryHandling, SCORING_VERSION, generation.get());
+
+        CompletableFuture<List<Integer>> future;
+        boolean owner = false;
+        synchronized (entries) {
+            future = entries.get(key);
+            if (future == null) {
+                future = new CompletableFuture<>();
+                entries.put(key, future);
+                owner = true;
+            }
+        }
+
+        if (owner) {
+            try {
+                List<Integer> ranked = List.copyOf(loader.get());
+                future.complete(ranked);
+                return ranked;
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+                synchronized (entries) {
+                    entries.remove(key, future);
+                }
+                throw e;
+            }
+        }
+
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onResultChanged(ResultChangedEvent event) {
+        invalidateAll();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEventInvalidated(EventInvalidatedEvent event) {
+        invalidateAll();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onInjuryChanged(InjuryChangedEvent event) {
+        invalidateAll();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onHillResized(HillResizedEvent event) {
+        invalidateAll();
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    @Value
+    private static class Key {
+        Integer eventId;
+        LocalDate fromDate;
+        LocalDate referenceDate;
+        int limit;
+        InjuryHandling injuryHandling;
+        int scoringVersion;
+        long generation;
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.ski_jumping_management.service;
+
+import com.example.ski_jumping_management.DTO.InjuryHandling;
+import com.example.ski_jumping_management.model.AthleteScoreIndexId;
+import com.example.ski_jumping_management.repository.AthleteScoreIndexRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class RecommendationIndexService {
+
+    private final AthleteScoreIndexRepository indexRepository;
+    private final AthleteScoringEngine scoringEngine;
+    private final RecommendationCache recommendationCache;
+    private final PlatformTransactionManager transactionManager;
+    private final EntityManager em;
+
+    public void recordAdded(JumpSample sample) {
+        recordAdded(List.of(sample));
+    }
+
+    public void recordAdded(Collection<JumpSample> samples) {
+        Map<AthleteScoreIndexId, double[]> deltas = new LinkedHashMap<>();
+        for (JumpSample sample : samples) {
+            if (!isIndexed(sample)) {
+                continue;
+            }
+            AthleteScoreIndexId key = new AthleteScoreIndexId(sample.getAthleteId(), sample.getHillSize(), sample.getEventDay());
+            double[] delta = deltas.computeIfAbsent(key, k -> new double[2]);
+            delta[0] += 1;
+            delta[1] += ratioLevel(sample);
+        }
+
+        deltas.forEach((key, delta) -> indexRepository.applyDelta(
+                key.getAthleteId(), key.getHillSize(), key.getEventDay(), (int) delta[0], delta[1]));
+    }
+
+    public void recordRemoved(JumpSample sample) {
+        if (!isIndexed(sample)) {
+            return;
+        }
+        indexRepository.applyDelta(sample.getAthleteId(), sample.getHillSize(), sample.getEventDay(), -1, -ratioLevel(sample));
+        indexRepository.deleteIfEmpty(sample.getAthleteId(), sample.getHillSize(), sample.getEventDay());
+    }
+
+    public void rebuildAthletes(Collection<Integer> athleteIds) {
+        if (athleteIds.isEmpty()) {
+            return;
+        }
+        em.flush();
+        indexRepository.lockForRebuild();
+        indexRepository.deleteByAthleteIds(athleteIds);
+        indexRepository.rebuildAthletes(athleteIds);
+    }
+
+    @Scheduled(cron = "0 30 3 * * *")
+    public void rebuildAll() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            indexRepository.lockForRebuild();
+            indexRepository.deleteAllRows();
+            indexRepository.rebuildAll();
+        });
+        recommendationCache.invalidateAll();
+    }
+
+    public List<Integer> topAthletes(int eventHillSize, LocalDate oldestAllowedDate, LocalDate referenceDate, int limit,
+                                     LocalDate eventStart, LocalDate eventEnd, InjuryHandling injuryHandling) {
+        long windowDays = ChronoUnit.DAYS.between(oldestAllowedDate, referenceDate);
+        ScoreColumns columns = ScoreColumns.fromRows(
+                indexRepository.findWindowBuckets(oldestAllowedDate, referenceDate, windowDays, eventStart, eventEnd));
+        return scoringEngine.topAthletes(columns, eventHillSize, limit, injuryHandling);
+    }
+
+    private boolean isIndexed(JumpSample sample) {
+        return sample.getAthleteId() != null && sample.getJumpLength() != null && sample.getLevel() != null
+                && sample.getEventDay() != null && sample.getHillSize() != null && sample.getHillSize() > 0;
+    }
+
+    private double ratioLevel(JumpSample sample) {
+        return sample.getJumpLength().doubleValue() / sample.getHillSize() * sample.getLevel();
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.ski_jumping_management.service;
+
+import com.example.ski_jumping_management.DTO.ResultView;
+import lombok.Value;
+
+@Value
+public class ResultChangedEvent {
+    ResultView before;
+    ResultView after;
+
+    public static ResultChangedEvent created(ResultView result) {
+        return new ResultChangedEvent(null, result);
+    }
+
+    public static ResultChangedEvent updated(ResultView before, ResultView after) {
+        return new ResultChangedEvent(before, after);
+    }
+
+    public static ResultChangedEvent deleted(ResultView result) {
+        return new ResultChangedEvent(result, null);
+    }
+}
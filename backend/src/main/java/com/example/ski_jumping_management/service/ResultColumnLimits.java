@@ -0,0 +1,48 @@
+package com.example.ski_jumping_management.service;
+
+import com.example.ski_jumping_management.DTO.ResultRequest;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+final class ResultColumnLimits {
+
+    private static final int VIDEO_URL_LENGTH = 255;
+
+    private ResultColumnLimits() {
+    }
+
+    static String violation(ResultRequest request) {
+        String error = numeric("jumpLength", request.getJumpLength(), 4, 1);
+        if (error == null) {
+            error = numeric("stylePoints", request.getStylePoints(), 3, 1);
+        }
+        if (error == null) {
+            error = numeric("windCompensation", request.getWindCompensation(), 3, 1);
+        }
+        if (error == null) {
+            error = numeric("totalPoints", request.getTotalPoints(), 5, 1);
+        }
+        if (error == null) {
+            error = numeric("speedTakeoff", request.getSpeedTakeoff(), 4, 1);
+        }
+        if (error == null) {
+            error = numeric("flightTime", request.getFlightTime(), 3, 1);
+        }
+        if (error == null && request.getVideoUrl() != null && request.getVideoUrl().length() > VIDEO_URL_LENGTH) {
+            error = "videoUrl cannot be longer than " + VIDEO_URL_LENGTH + " characters";
+        }
+        return error;
+    }
+
+    private static String numeric(String field, BigDecimal value, int precision, int scale) {
+        if (value == null) {
+            return null;
+        }
+        BigDecimal limit = BigDecimal.TEN.pow(precision - scale);
+        if (value.setScale(scale, RoundingMode.HALF_UP).abs().compareTo(limit) >= 0) {
+            return field + " must be less than " + limit + " in absolute value";
+        }
+        return null;
+    }
+}
@@ -1,29 +1,55 @@
 package com.example.ski_jumping_management.service;
 
+import com.example.ski_jumping_management.DTO.CursorPage;
+import com.example.ski_jumping_management.DTO.ExportFormat;
+import com.example.ski_jumping_management.DTO.ResultBatchResponse;
+import com.example.ski_jumping_management.DTO.ResultBatchRowOutcome;
+import com.example.ski_jumping_management.DTO.ResultExportRow;
 import com.example.ski_jumping_management.DTO.ResultRequest;
+import com.example.ski_jumping_management.DTO.ResultView;
 import com.example.ski_jumping_management.exceptions.BadRequestException;
 import com.example.ski_jumping_management.model.*;
 import com.example.ski_jumping_management.repository.EventParticipantRepository;
 import com.example.ski_jumping_management.repository.EventRepository;
 import com.example.ski_jumping_management.repository.ResultRepository;
 import com.example.ski_jumping_management.repository.UserRepository;
+import com.example.ski_jumping_management.repository.specification.ResultFilter;
+import com.example.ski_jumping_management.repository.specification.ResultSpecifications;
+import com.example.ski_jumping_management.security.AccessPolicy;
 import com.example.ski_jumping_management.security.CustomUserDetails;
-import jakarta.persistence.EntityManager;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.access.AccessDeniedException;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -33,45 +59,67 @@ public class ResultService {
     private final EventRepository eventRepository;
     private final UserRepository userRepository;
     private final EventParticipantRepository eventParticipantRepository;
-    private final EntityManager em;
-
-    public boolean hasAnyRole(CustomUserDetails userDetails, UserRole... roles) {
-        if (userDetails == null || userDetails.getAuthorities() == null) return false;
-        return userDetails.getAuthorities().stream()
-                .map(auth -> auth.getAuthority())
-                .anyMatch(roleName -> {
-                    for (UserRole r : roles) {
-                        if (roleName.equals(r.name())) return true;
-                    }
-                    return false;
-                });
-    }
-
-    private String calculateSeason(LocalDate startDate) {
-        int year1 = startDate.getYear();
-        int month = startDate.getMonthValue();
-        int year2;
-        if (month >= 5) {
-            year2 = year1 + 1;
-        } else {
-            year2 = year1;
-            year1 = year1 - 1;
-        }
-        return year1 + "/" + year2;
-    }
-
-    @Transactional
-    public void ensurePartitionExists(String season) {
-        String partitionName = "results_" + season.replace("/", "_");
-        String sql = "DO $$ BEGIN " +
-                "IF NOT EXISTS (SELECT 1 FROM pg_tables WHERE tablename = '" + partitionName + "') THEN " +
-                "EXECUTE 'CREATE TABLE " + partitionName + " PARTITION OF results FOR VALUES IN (''" + season + "'');' ;" +
-                "END IF; " +
-                "END $$;";
-        em.createNativeQuery(sql).executeUpdate();
+    private final SeasonPartitionManager seasonPartitionManager;
+    private final KeysetCursors keysetCursors;
+    private final AthleteStatsService athleteStatsService;
+    private final RecommendationIndexService recommendationIndexService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final AccessPolicy accessPolicy;
+
+    private static final String CSV_HEADER = "id,eventId,eventName,eventStartDate,athleteId,athleteFirstName,athleteLastName," +
+            "season,attemptNumber,jumpLength,stylePoints,windCompensation,gate,totalPoints,speedTakeoff,flightTime," +
+            "coachComment,videoUrl";
+    private static final int MAX_BATCH_SIZE = 500;
+
+    private ResultFilter buildFilter(
+            Integer eventId,
+            List<Integer> athleteIds,
+            List<String> seasons,
+            Short attemptNumber,
+            BigDecimal minJumpLength,
+            BigDecimal maxJumpLength,
+            BigDecimal minStylePoints,
+            BigDecimal maxStylePoints,
+            BigDecimal minWindCompensation,
+            BigDecimal maxWindCompensation,
+            Short minGate,
+            Short maxGate,
+            BigDecimal minTotalPoints,
+            BigDecimal maxTotalPoints,
+            BigDecimal minSpeedTakeoff,
+            BigDecimal maxSpeedTakeoff,
+            BigDecimal minFlightTime,
+            BigDecimal maxFlightTime,
+            LocalDate startDate,
+            LocalDate endDate
+    ) {
+        ResultFilter filter = ResultFilter.builder()
+                .eventId(eventId)
+                .athleteIds(athleteIds)
+                .seasons(seasons)
+                .attemptNumber(attemptNumber)
+                .minJumpLength(minJumpLength)
+                .maxJumpLength(maxJumpLength)
+                .minStylePoints(minStylePoints)
+                .maxStylePoints(maxStylePoints)
+                .minWindCompensation(minWindCompensation)
+                .maxWindCompensation(maxWindCompensation)
+                .minGate(minGate)
+                .maxGate(maxGate)
+                .minTotalPoints(minTotalPoints)
+                .maxTotalPoints(maxTotalPoints)
+                .minSpeedTakeoff(minSpeedTakeoff)
+                .maxSpeedTakeoff(maxSpeedTakeoff)
+                .minFlightTime(minFlightTime)
+                .maxFlightTime(maxFlightTime)
+                .startDate(startDate != null ? startDate.atStartOfDay() : null)
+                .endDate(endDate != null ? endDate.atTime(23, 59, 59) : null)
+                .build();
+        return Seasons.restrictToPartitions(filter);
     }
 
-    public Page<Result> getFilteredResults(
+    public Page<?> getFilteredResults(
             Integer eventId,
             List<Integer> athleteIds,
             List<String> seasons,
@@ -93,7 +141,8 @@ public class ResultService {
             LocalDate startDate,
             LocalDate endDate,
             int page,
-            String size
+            String size,
+            boolean expand
     ) {
         int pageSize;
         Pageable pageable;
@@ -109,10 +158,7 @@ public class ResultService {
             return Page.empty();
         }
 
-        LocalDateTime startDateTime = startDate != null ? startDate.atStartOfDay() : null;
-        LocalDateTime endDateTime = endDate != null ? endDate.atTime(23, 59, 59) : null;
-
-        return resultRepository.findFilteredResults(
+        ResultFilter filter = buildFilter(
                 eventId,
                 athleteIds,
                 seasons,
@@ -131,48 +177,191 @@ public class ResultService {
                 maxSpeedTakeoff,
                 minFlightTime,
                 maxFlightTime,
-                startDateTime,
-                endDateTime,
-                pageable
+                startDate,
+                endDate
         );
+
+        if (expand) {
+            return resultRepository.findAll(ResultSpecifications.matching(filter), pageable);
+        }
+        return resultRepository.findViews(filter, pageable);
     }
 
+    public CursorPage<?> getFilteredResultsAfter(
+            Integer eventId,
+            List<Integer> athleteIds,
+            List<String> seasons,
+            Short attemptNumber,
+            BigDecimal minJumpLength,
+            BigDecimal maxJumpLength,
+            BigDecimal minStylePoints,
+            BigDecimal maxStylePoints,
+            BigDecimal minWindCompensation,
+            BigDecimal maxWindCompensation,
+            Short minGate,
+            Short maxGate,
+            BigDecimal minTotalPoints,
+            BigDecimal maxTotalPoints,
+            BigDecimal minSpeedTakeoff,
+            BigDecimal maxSpeedTakeoff,
+            BigDecimal minFlightTime,
+            BigDecimal maxFlightTime,
+            LocalDate startDate,
+            LocalDate endDate,
+            String after,
+            int limit,
+            boolean expand
+    ) {
+        Sort sort = keysetCursors.sort(Result.class, "id", "asc");
+        KeysetScrollPosition position = keysetCursors.decode(after, Result.class, sort);
+        int pageLimit = keysetCursors.limit(limit);
 
-    public Result getResultById(Integer id) {
-        return resultRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Result not found"));
+        if ((athleteIds == null || athleteIds.isEmpty()) && eventId == null) {
+            return new CursorPage<>(List.of(), null, false);
+        }
+
+        ResultFilter filter = buildFilter(
+                eventId,
+                athleteIds,
+                seasons,
+                attemptNumber,
+                minJumpLength,
+                maxJumpLength,
+                minStylePoints,
+                maxStylePoints,
+                minWindCompensation,
+                maxWindCompensation,
+                minGate,
+                maxGate,
+                minTotalPoints,
+                maxTotalPoints,
+                minSpeedTakeoff,
+                maxSpeedTakeoff,
+                minFlightTime,
+                maxFlightTime,
+                startDate,
+                endDate
+        );
+
+        if (expand) {
+            Window<Result> window = resultRepository.findBy(ResultSpecifications.matching(filter),
+                    query -> query.sortBy(sort).limit(pageLimit).scroll(position));
+            return keysetCursors.page(window);
+        }
+
+        Integer afterId = position.isInitial() ? null : (Integer) position.getKeys().get("id");
+        List<ResultView> views = resultRepository.findViewsAfter(filter, afterId, pageLimit + 1);
+        boolean hasNext = views.size() > pageLimit;
+        List<ResultView> content = hasNext ? views.subList(0, pageLimit) : views;
+        return keysetCursors.page(Window.from(content,
+                index -> ScrollPosition.forward(Map.of("id", content.get(index).getId())), hasNext));
     }
 
+
     @Transactional
-    public Result createResult(ResultRequest request, CustomUserDetails currentUser) {
-        Event event = eventRepository.findById(request.getEventId())
-                .orElseThrow(() -> new EntityNotFoundException("Event not found"));
-        User athlete = userRepository.findById(request.getAthleteId())
-                .orElseThrow(() -> new EntityNotFoundException("User not found"));
+    public void exportResults(
+            Integer eventId,
+            List<Integer> athleteIds,
+            List<String> seasons,
+            Short attemptNumber,
+            BigDecimal minJumpLength,
+            BigDecimal maxJumpLength,
+            BigDecimal minStylePoints,
+            BigDecimal maxStylePoints,
+            BigDecimal minWindCompensation,
+            BigDecimal maxWindCompensation,
+            Short minGate,
+            Short maxGate,
+            BigDecimal minTotalPoints,
+            BigDecimal maxTotalPoints,
+            BigDecimal minSpeedTakeoff,
+            BigDecimal maxSpeedTakeoff,
+            BigDecimal minFlightTime,
+            BigDecimal maxFlightTime,
+            LocalDate startDate,
+            LocalDate endDate,
+            ExportFormat format,
+            OutputStream out
+    ) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
 
-        boolean athleteIsParticipant = eventParticipantRepository.existsByEventAndAthlete(event, athlete);
-        if (!athleteIsParticipant) {
-            throw new BadRequestException("Athlete is not registered for this event");
+        if ((athleteIds == null || athleteIds.isEmpty()) && eventId == null) {
+            writer.flush();
+            return;
         }
 
-        boolean isTrainer = hasAnyRole(currentUser, UserRole.TRAINER);
-        boolean isAdmin = hasAnyRole(currentUser, UserRole.ADMIN);
+        ResultFilter filter = buildFilter(
+                eventId,
+                athleteIds,
+                seasons,
+                attemptNumber,
+                minJumpLength,
+                maxJumpLength,
+                minStylePoints,
+                maxStylePoints,
+                minWindCompensation,
+                maxWindCompensation,
+                minGate,
+                maxGate,
+                minTotalPoints,
+                maxTotalPoints,
+                minSpeedTakeoff,
+                maxSpeedTakeoff,
+                minFlightTime,
+                maxFlightTime,
+                startDate,
+                endDate
+        );
 
-        if (isTrainer && !isAdmin) {
-            Set<Integer> trainerTeamIds = currentUser.getUser().getTeams().stream().map(Team::getId).collect(Collectors.toSet());
+        try (Stream<ResultExportRow> rows = resultRepository.streamFilteredResults(filter)) {
+            rows.forEach(row -> {
+                try {
+                    if (format == ExportFormat.CSV) {
+                        writeCsvRow(writer, row);
+                    } else {
+                        writer.write(objectMapper.writeValueAsString(row));
+                        writer.write('\n');
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
 
-            Set<Integer> eventTeamIds = event.getEventAllowedTeams().stream().map(Team::getId).collect(Collectors.toSet());
+        writer.flush();
+    }
 
-            boolean allowed = trainerTeamIds.stream().anyMatch(eventTeamIds::contains);
-            if (!allowed) {
-                throw new AccessDeniedException("Trainer cannot add result for event outside their teams");
-            }
+    private void writeCsvRow(Writer writer, ResultExportRow row) throws IOException {
+        Object[] values = {
+                row.getId(), row.getEventId(), row.getEventName(), row.getEventStartDate(),
+                row.getAthleteId(), row.getAthleteFirstName(), row.getAthleteLastName(), row.getSeason(),
+                row.getAttemptNumber(), row.getJumpLength(), row.getStylePoints(), row.getWindCompensation(),
+                row.getGate(), row.getTotalPoints(), row.getSpeedTakeoff(), row.getFlightTime(),
+                row.getCoachComment(), row.getVideoUrl()
+        };
+
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) writer.write(',');
+            if (values[i] != null) writer.write(escapeCsv(values[i].toString()));
         }
+        writer.write('\n');
+    }
 
-        Result result = new Result();
-        result.setEvent(event);
-        result.setAthlete(athlete);
-        result.setSeason(calculateSeason(event.getStartDate().toLocalDate()));
+    private String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private void applyJumpData(Result result, ResultRequest request) {
         result.setAttemptNumber(request.getAttemptNumber());
         result.setJumpLength(request.getJumpLength());
         result.setStylePoints(request.getStylePoints());
@@ -183,80 +372,189 @@ public class ResultService {
         result.setVideoUrl(request.getVideoUrl());
         result.setSpeedTakeoff(request.getSpeedTakeoff());
         result.setFlightTime(request.getFlightTime());
+    }
 
-        ensurePartitionExists(result.getSeason());
+    public Result getResultById(Integer id) {
+        return resultRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Result not found"));
+    }
 
-        return resultRepository.save(result);
+    public ResultView getResultViewById(Integer id) {
+        return resultRepository.findViewById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Result not found"));
     }
 
     @Transactional
-    public Result updateResult(Integer id, ResultRequest request, CustomUserDetails currentUser) {
-        Result result = resultRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Result not found"));
+    public Result createResult(ResultRequest request, CustomUserDetails currentUser) {
+        accessPolicy.requireEventAccess(currentUser, UserRole.TRAINER, request.getEventId(), "Trainer cannot add result for event outside their teams");
+
+        String violation = ResultColumnLimits.violation(request);
+        if (violation != null) {
+            throw new BadRequestException(violation);
+        }
 
         Event event = eventRepository.findById(request.getEventId())
                 .orElseThrow(() -> new EntityNotFoundException("Event not found"));
         User athlete = userRepository.findById(request.getAthleteId())
                 .orElseThrow(() -> new EntityNotFoundException("User not found"));
 
-        boolean athleteIsParticipant = eventParticipantRepository.existsByEventAndAthlete(event, athlete);
+        boolean athleteIsParticipant = eventParticipantRepository.existsByEventAndAthleteAndSeason(
+                event, athlete, Seasons.of(event.getStartDate().toLocalDate()));
         if (!athleteIsParticipant) {
             throw new BadRequestException("Athlete is not registered for this event");
         }
 
-        boolean isTrainer = hasAnyRole(currentUser, UserRole.TRAINER);
-        boolean isAdmin = hasAnyRole(currentUser, UserRole.ADMIN);
+        Result result = new Result();
+        result.setEvent(event);
+        result.setAthlete(athlete);
+        result.setSeason(Seasons.of(event.getStartDate().toLocalDate()));
+        applyJumpData(result, request);
 
-        if (isTrainer && !isAdmin) {
-            Set<Integer> trainerTeamIds = currentUser.getUser().getTeams().stream().map(Team::getId).collect(Collectors.toSet());
+        seasonPartitionManager.ensureSeason(result.getSeason());
 
-            Set<Integer> eventTeamIds = event.getEventAllowedTeams().stream().map(Team::getId).collect(Collectors.toSet());
+        Result saved = resultRepository.save(result);
+        JumpSample sample = JumpSample.of(saved);
+        athleteStatsService.recordAdded(sample);
+        recommendationIndexService.recordAdded(sample);
+        eventPublisher.publishEvent(ResultChangedEvent.created(ResultView.of(saved)));
+        return saved;
+    }
 
-            boolean allowed = trainerTeamIds.stream().anyMatch(eventTeamIds::contains);
-            if (!allowed) {
-                throw new AccessDeniedException("Trainer cannot edit result for event outside their teams");
+    @Transactional
+    public ResultBatchResponse createResults(List<ResultRequest> requests, CustomUserDetails currentUser) {
+        if (requests == null || requests.isEmpty()) {
+            throw new BadRequestException("Batch must contain at least one result");
+        }
+        if (requests.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException("Batch cannot contain more than " + MAX_BATCH_SIZE + " results");
+        }
+
+        Set<Integer> eventIds = requests.stream().map(ResultRequest::getEventId).filter(Objects::nonNull).collect(Collectors.toSet());
+        Set<Integer> athleteIds = requests.stream().map(ResultRequest::getAthleteId).filter(Objects::nonNull).collect(Collectors.toSet());
+
+        Map<Integer, Event> events = eventRepository.findAllById(eventIds).stream()
+                .collect(Collectors.toMap(Event::getId, Function.identity()));
+        Map<Integer, String> eventSeasons = events.values().stream()
+                .collect(Collectors.toMap(Event::getId, event -> Seasons.of(event.getStartDate().toLocalDate())));
+
+        boolean restrictToTeams = accessPolicy.isTeamScoped(currentUser, UserRole.TRAINER);
+        Set<Integer> sharedEventIds = restrictToTeams ? accessPolicy.eventsSharingTeam(currentUser, events.keySet()) : Set.of();
+        Set<Integer> allowedEventIds = events.values().stream()
+                .filter(event -> !restrictToTeams || sharedEventIds.contains(event.getId()))
+                .map(Event::getId)
+                .collect(Collectors.toSet());
+
+        Set<List<Integer>> participants = new HashSet<>();
+        if (!events.isEmpty() && !athleteIds.isEmpty()) {
+            for (Object[] pair : eventParticipantRepository.findParticipantPairs(new HashSet<>(eventSeasons.values()), events.keySet(), athleteIds)) {
+                participants.add(List.of((Integer) pair[0], (Integer) pair[1]));
             }
         }
 
-        result.setEvent(event);
-        result.setAthlete(athlete);
-        result.setSeason(calculateSeason(event.getStartDate().toLocalDate()));
-        result.setAttemptNumber(request.getAttemptNumber());
-        result.setJumpLength(request.getJumpLength());
-        result.setStylePoints(request.getStylePoints());
-        result.setWindCompensation(request.getWindCompensation());
-        result.setGate(request.getGate());
-        result.setTotalPoints(request.getTotalPoints());
-        result.setCoachComment(request.getCoachComment());
-        result.setVideoUrl(request.getVideoUrl());
-        result.setSpeedTakeoff(request.getSpeedTakeoff());
-        result.setFlightTime(request.getFlightTime());
+        List<ResultBatchRowOutcome> outcomes = new ArrayList<>(requests.size());
+        List<Result> accepted = new ArrayList<>();
+        List<Integer> acceptedIndexes = new ArrayList<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            ResultRequest request = requests.get(i);
+            String error = null;
+            if (request.getEventId() == null || request.getAthleteId() == null) {
+                error = "eventId and athleteId are required";
+            } else if (!events.containsKey(request.getEventId())) {
+                error = "Event not found";
+            } else if (!allowedEventIds.contains(request.getEventId())) {
+                error = "Trainer cannot add result for event outside their teams";
+            } else if (!participants.contains(List.of(request.getEventId(), request.getAthleteId()))) {
+                error = "Athlete is not registered for this event";
+            } else {
+                error = ResultColumnLimits.violation(request);
+            }
+
+            if (error != null) {
+                outcomes.add(ResultBatchRowOutcome.rejected(i, error));
+                continue;
+            }
+
+            Result result = new Result();
+            result.setEvent(events.get(request.getEventId()));
+            result.setAthlete(userRepository.getReferenceById(request.getAthleteId()));
+            result.setSeason(eventSeasons.get(request.getEventId()));
+            applyJumpData(result, request);
+
+            accepted.add(result);
+            acceptedIndexes.add(i);
+            outcomes.add(null);
+        }
 
-        ensurePartitionExists(result.getSeason());
+        accepted.stream().map(Result::getSeason).distinct().forEach(seasonPartitionManager::ensureSeason);
+        resultRepository.insertAll(accepted);
+        List<JumpSample> samples = accepted.stream().map(JumpSample::of).toList();
+        athleteStatsService.recordAdded(samples);
+        recommendationIndexService.recordAdded(samples);
+        resultRepository.findViewsByIds(accepted.stream().map(Result::getId).toList())
+                .forEach(view -> eventPublisher.publishEvent(ResultChangedEvent.created(view)));
+
+        for (int i = 0; i < accepted.size(); i++) {
+            int index = acceptedIndexes.get(i);
+            outcomes.set(index, ResultBatchRowOutcome.created(index, accepted.get(i).getId()));
+        }
 
-        return resultRepository.save(result);
+        return new ResultBatchResponse(accepted.size(), requests.size() - accepted.size(), outcomes);
     }
 
     @Transactional
-    public void deleteResult(Integer id, CustomUserDetails currentUser) {
-        Result result = resultRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("Result not found"));
-
-        Event event = result.getEvent();
+    public Result updateResult(Integer id, ResultRequest request, CustomUserDetails currentUser) {
+        Result result = resultRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Result not found"));
+        JumpSample before = JumpSample.of(result);
+        ResultView previous = ResultView.of(result);
 
-        boolean isTrainer = hasAnyRole(currentUser, UserRole.TRAINER);
-        boolean isAdmin = hasAnyRole(currentUser, UserRole.ADMIN);
+        accessPolicy.requireEventAccess(currentUser, UserRole.TRAINER, request.getEventId(), "Trainer cannot edit result for event outside their teams");
 
-        if (isTrainer && !isAdmin) {
-            Set<Integer> trainerTeamIds = currentUser.getUser().getTeams().stream().map(Team::getId).collect(Collectors.toSet());
+        String violation = ResultColumnLimits.violation(request);
+        if (violation != null) {
+            throw new BadRequestException(violation);
+        }
 
-            Set<Integer> eventTeamIds = event.getEventAllowedTeams().stream().map(Team::getId).collect(Collectors.toSet());
+        Event event = eventRepository.findById(request.getEventId())
+                .orElseThrow(() -> new EntityNotFoundException("Event not found"));
+        User athlete = userRepository.findById(request.getAthleteId())
+                .orElseThrow(() -> new EntityNotFoundException("User not found"));
 
-            boolean allowed = trainerTeamIds.stream().anyMatch(eventTeamIds::contains);
-            if (!allowed) {
-                throw new AccessDeniedException("Trainer cannot delete result for event outside their teams");
-            }
+        boolean athleteIsParticipant = eventParticipantRepository.existsByEventAndAthleteAndSeason(
+                event, athlete, Seasons.of(event.getStartDate().toLocalDate()));
+        if (!athleteIsParticipant) {
+            throw new BadRequestException("Athlete is not registered for this event");
         }
 
+        result.setEvent(event);
+        result.setAthlete(athlete);
+        result.setSeason(Seasons.of(event.getStartDate().toLocalDate()));
+        applyJumpData(result, request);
+
+        seasonPartitionManager.ensureSeason(result.getSeason());
+
+        Result saved = resultRepository.save(result);
+        JumpSample after = JumpSample.of(saved);
+        athleteStatsService.recordRemoved(before);
+        athleteStatsService.recordAdded(after);
+        recommendationIndexService.recordRemoved(before);
+        recommendationIndexService.recordAdded(after);
+        eventPublisher.publishEvent(ResultChangedEvent.updated(previous, ResultView.of(saved)));
+        return saved;
+    }
+
+    @Transactional
+    public void deleteResult(Integer id, CustomUserDetails currentUser) {
+        Result result = resultRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("Result not found"));
+
+        accessPolicy.requireEventAccess(currentUser, UserRole.TRAINER, result.getEvent().getId(), "Trainer cannot delete result for event outside their teams");
+
+        JumpSample removed = JumpSample.of(result);
+        ResultView view = ResultView.of(result);
         resultRepository.delete(result);
+        athleteStatsService.recordRemoved(removed);
+        recommendationIndexService.recordRemoved(removed);
+        eventPublisher.publishEvent(ResultChangedEvent.deleted(view));
     }
 }
@@ -0,0 +1,48 @@
+package com.example.ski_jumping_management.service;
+
+import java.util.List;
+
+public class ScoreColumns {
+
+    final int size;
+    final int[] athleteIds;
+    final int[] hillSizes;
+    final double[] weightedSums;
+    final long[] jumpCounts;
+    final byte[] injuryRanks;
+
+    public ScoreColumns(int[] athleteIds, int[] hillSizes, double[] weightedSums, long[] jumpCounts) {
+        this(athleteIds, hillSizes, weightedSums, jumpCounts, new byte[athleteIds.length]);
+    }
+
+    public ScoreColumns(int[] athleteIds, int[] hillSizes, double[] weightedSums, long[] jumpCounts, byte[] injuryRanks) {
+        this.size = athleteIds.length;
+        this.athleteIds = athleteIds;
+        this.hillSizes = hillSizes;
+        this.weightedSums = weightedSums;
+        this.jumpCounts = jumpCounts;
+        this.injuryRanks = injuryRanks;
+    }
+
+    public static ScoreColumns fromRows(List<Object[]> rows) {
+        int size = rows.size();
+        int[] athleteIds = new int[size];
+        int[] hillSizes = new int[size];
+        double[] weightedSums = new double[size];
+        long[] jumpCounts = new long[size];
+        byte[] injuryRanks = new byte[size];
+        for (int i = 0; i < size; i++) {
+            Object[] row = rows.get(i);
+            athleteIds[i] = ((Number) row[0]).intValue();
+            hillSizes[i] = ((Number) row[1]).intValue();
+            weightedSums[i] = ((Number) row[2]).doubleValue();
+            jumpCounts[i] = ((Number) row[3]).longValue();
+            injuryRanks[i] = ((Number) row[4]).byteValue();
+        }
+        return new ScoreColumns(athleteIds, hillSizes, weightedSums, jumpCounts, injuryRanks);
+    }
+
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.ski_jumping_management.service;
+
+import com.example.ski_jumping_management.DTO.SearchHit;
+import com.example.ski_jumping_management.DTO.SearchHitType;
+import com.example.ski_jumping_management.exceptions.BadRequestException;
+import com.example.ski_jumping_management.repository.SearchRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class SearchService {
+
+    static final int MIN_TERM_LENGTH = 2;
+    static final int MAX_LIMIT = 50;
+
+    private final SearchRepository searchRepository;
+
+    public List<SearchHit> search(String query, Collection<SearchHitType> types, int limit) {
+        String term = query == null ? "" : query.trim();
+        if (term.length() < MIN_TERM_LENGTH) {
+            throw new BadRequestException("Search query must have at least " + MIN_TERM_LENGTH + " characters");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new BadRequestException("limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        EnumSet<SearchHitType> searched = types == null || types.isEmpty()
+                ? EnumSet.allOf(SearchHitType.class)
+                : EnumSet.copyOf(types);
+        return searchRepository.search(term, searched, limit);
+    }
+}
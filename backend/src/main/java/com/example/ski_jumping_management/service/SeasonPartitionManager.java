@@ -0,0 +1,121 @@
+package com.example.ski_jumping_management.service;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Service
+@RequiredArgsConstructor
+public class SeasonPartitionManager {
+
+    private static final List<String> PARTITIONED_TABLES = List.of("results", "event_participants");
+    private static final long PARTITION_LOCK_KEY = 0x5345415330L;
+    private static final Pattern SEASON_PATTERN = Pattern.compile("(\\d{4})/(\\d{4})");
+
+    private final EntityManager em;
+    private final PlatformTransactionManager transactionManager;
+
+    private final Set<String> knownSeasons = ConcurrentHashMap.newKeySet();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        loadExistingPartitions();
+        precreateUpcomingSeasons();
+    }
+
+    public void loadExistingPartitions() {
+        List<?> rows = new TransactionTemplate(transactionManager).execute(status -> em.createNativeQuery(
+                        "SELECT parent.relname, pg_get_expr(child.relpartbound, child.oid) " +
+                                "FROM pg_inherits i " +
+                                "JOIN pg_class child ON child.oid = i.inhrelid " +
+                                "JOIN pg_class parent ON parent.oid = i.inhparent " +
+                                "WHERE parent.relname IN (:tables)")
+                .setParameter("tables", PARTITIONED_TABLES)
+                .getResultList());
+
+        Map<String, Set<String>> seasonsByTable = new HashMap<>();
+        for (Object row : rows) {
+            Object[] columns = (Object[]) row;
+            Matcher matcher = SEASON_PATTERN.matcher(String.valueOf(columns[1]));
+            while (matcher.find()) {
+                seasonsByTable.computeIfAbsent((String) columns[0], table -> new HashSet<>()).add(matcher.group());
+            }
+        }
+
+        Set<String> complete = new HashSet<>(seasonsByTable.getOrDefault(PARTITIONED_TABLES.get(0), Set.of()));
+        for (String table : PARTITIONED_TABLES) {
+            complete.retainAll(seasonsByTable.getOrDefault(table, Set.of()));
+        }
+        knownSeasons.addAll(complete);
+    }
+
+    @Scheduled(cron = "0 0 3 * * *")
+    public void precreateUpcomingSeasons() {
+        String current = Seasons.of(LocalDate.now());
+        String next = Seasons.of(LocalDate.now().plusYears(1));
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            ensureSeason(current);
+            ensureSeason(next);
+        });
+    }
+
+    public void ensureSeason(String season) {
+        if (knownSeasons.contains(season)) {
+            return;
+        }
+        if (!isValidSeason(season)) {
+            throw new IllegalArgumentException("Invalid season: " + season);
+        }
+
+        em.createNativeQuery("SELECT 1 FROM pg_advisory_xact_lock(:key)")
+                .setParameter("key", PARTITION_LOCK_KEY)
+                .getSingleResult();
+        for (String table : PARTITIONED_TABLES) {
+            String partitionName = table + "_" + season.replace("/", "_");
+            em.createNativeQuery("CREATE TABLE IF NOT EXISTS " + partitionName +
+                            " PARTITION OF " + table + " FOR VALUES IN ('" + season + "')")
+                    .executeUpdate();
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    knownSeasons.add(season);
+                }
+            });
+        } else {
+            knownSeasons.add(season);
+        }
+    }
+
+    public Set<String> knownSeasons() {
+        return Set.copyOf(knownSeasons);
+    }
+
+    public boolean isKnown(String season) {
+        return knownSeasons.contains(season);
+    }
+
+    private boolean isValidSeason(String season) {
+        Matcher matcher = SEASON_PATTERN.matcher(season);
+        return matcher.matches() && Integer.parseInt(matcher.group(2)) == Integer.parseInt(matcher.group(1)) + 1;
+    }
+}
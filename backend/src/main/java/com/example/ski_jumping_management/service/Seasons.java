@@ -0,0 +1,67 @@
+package com.example.ski_jumping_management.service;
+
+import com.example.ski_jumping_management.repository.specification.ResultFilter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class Seasons {
+
+    private static final int SEASON_START_MONTH = 5;
+    private static final int MAX_ENUMERATED_SEASONS = 10;
+
+    private Seasons() {
+    }
+
+    public static String of(LocalDate date) {
+        int year1 = date.getYear();
+        int month = date.getMonthValue();
+        int year2;
+        if (month >= SEASON_START_MONTH) {
+            year2 = year1 + 1;
+        } else {
+            year2 = year1;
+            year1 = year1 - 1;
+        }
+        return year1 + "/" + year2;
+    }
+
+    public static List<String> between(LocalDate from, LocalDate to) {
+        List<String> seasons = new ArrayList<>();
+        int first = startYear(from);
+        int last = startYear(to);
+        for (int year = first; year <= last; year++) {
+            seasons.add(year + "/" + (year + 1));
+        }
+        return seasons;
+    }
+
+    public static ResultFilter restrictToPartitions(ResultFilter filter) {
+        LocalDateTime start = filter.getStartDate();
+        LocalDateTime end = filter.getEndDate();
+
+        if (start != null && end != null) {
+            if (end.isBefore(start)) {
+                return filter;
+            }
+            List<String> seasons = between(start.toLocalDate(), end.toLocalDate());
+            if (seasons.size() <= MAX_ENUMERATED_SEASONS) {
+                filter.setPartitionSeasons(seasons);
+                return filter;
+            }
+        }
+        if (start != null) {
+            filter.setMinSeason(of(start.toLocalDate()));
+        }
+        if (end != null) {
+            filter.setMaxSeason(of(end.toLocalDate()));
+        }
+        return filter;
+    }
+
+    private static int startYear(LocalDate date) {
+        return date.getMonthValue() >= SEASON_START_MONTH ? date.getYear() : date.getYear() - 1;
+    }
+}
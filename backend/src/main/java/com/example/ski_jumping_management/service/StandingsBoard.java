@@ -0,0 +1,151 @@
+package com.example.ski_jumping_management.service;
+
+import com.example.ski_jumping_management.DTO.ResultView;
+import com.example.ski_jumping_management.DTO.StandingsAttempt;
+import com.example.ski_jumping_management.DTO.StandingsEntry;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+public class StandingsBoard {
+
+    private static final Comparator<AthleteTotal> RANKING = Comparator
+            .comparing((AthleteTotal total) -> total.points, Comparator.reverseOrder())
+            .thenComparing(total -> total.athleteId);
+
+    private static final Comparator<ResultView> ATTEMPT_ORDER = Comparator
+            .comparing(ResultView::getAttemptNumber, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(ResultView::getId);
+
+    private final Integer eventId;
+    private final Map<Integer, ResultView> results = new HashMap<>();
+    private final Map<Integer, AthleteTotal> totals = new HashMap<>();
+    private final TreeSet<AthleteTotal> ranking = new TreeSet<>(RANKING);
+    private volatile boolean loaded;
+    private volatile long lastAccess = System.currentTimeMillis();
+
+    public StandingsBoard(Integer eventId) {
+        this.eventId = eventId;
+    }
+
+    public Integer getEventId() {
+        return eventId;
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public long getLastAccess() {
+        return lastAccess;
+    }
+
+    public synchronized void ensureLoaded(Supplier<? extends Collection<ResultView>> loader) {
+        lastAccess = System.currentTimeMillis();
+        if (loaded) {
+            return;
+        }
+        Collection<ResultView> views = loader.get();
+        results.clear();
+        totals.clear();
+        ranking.clear();
+        for (ResultView view : views) {
+            add(view);
+        }
+        loaded = true;
+    }
+
+    public synchronized void put(ResultView view) {
+        if (!loaded || !eventId.equals(view.getEventId())) {
+            return;
+        }
+        remove(view.getId());
+        add(view);
+    }
+
+    public synchronized void delete(Integer resultId) {
+        if (!loaded) {
+            return;
+        }
+        remove(resultId);
+    }
+
+    public synchronized List<StandingsEntry> snapshot() {
+        lastAccess = System.currentTimeMillis();
+        List<StandingsEntry> entries = new ArrayList<>(ranking.size());
+        int position = 0;
+        int rank = 0;
+        BigDecimal previous = null;
+        for (AthleteTotal total : ranking) {
+            position++;
+            if (previous == null || total.points.compareTo(previous) != 0) {
+                rank = position;
+                previous = total.points;
+            }
+            List<StandingsAttempt> attempts = total.attempts.values().stream()
+                    .sorted(ATTEMPT_ORDER)
+                    .map(view -> new StandingsAttempt(view.getId(), view.getAttemptNumber(), view.getJumpLength(), view.getTotalPoints()))
+                    .toList();
+            entries.add(new StandingsEntry(rank, total.athleteId, total.firstName, total.lastName, total.points, attempts));
+        }
+        return entries;
+    }
+
+    private void add(ResultView view) {
+        if (view.getAthleteId() == null) {
+            return;
+        }
+        results.put(view.getId(), view);
+        AthleteTotal total = totals.get(view.getAthleteId());
+        if (total == null) {
+            total = new AthleteTotal(view.getAthleteId());
+            totals.put(view.getAthleteId(), total);
+        } else {
+            ranking.remove(total);
+        }
+        total.firstName = view.getAthleteFirstName();
+        total.lastName = view.getAthleteLastName();
+        total.attempts.put(view.getId(), view);
+        total.points = total.points.add(points(view));
+        ranking.add(total);
+    }
+
+    private void remove(Integer resultId) {
+        ResultView existing = results.remove(resultId);
+        if (existing == null) {
+            return;
+        }
+        AthleteTotal total = totals.get(existing.getAthleteId());
+        ranking.remove(total);
+        total.attempts.remove(resultId);
+        if (total.attempts.isEmpty()) {
+            totals.remove(existing.getAthleteId());
+            return;
+        }
+        total.points = total.points.subtract(points(existing));
+        ranking.add(total);
+    }
+
+    private BigDecimal points(ResultView view) {
+        return view.getTotalPoints() != null ? view.getTotalPoints() : BigDecimal.ZERO;
+    }
+
+    private static class AthleteTotal {
+        private final Integer athleteId;
+        private final Map<Integer, ResultView> attempts = new HashMap<>();
+        private String firstName;
+        private String lastName;
+        private BigDecimal points = BigDecimal.ZERO;
+
+        private AthleteTotal(Integer athleteId) {
+            this.athleteId = athleteId;
+        }
+    }
+}
@@ -6,6 +6,8 @@ import com.example.ski_jumping_management.model.Team;
 import com.example.ski_jumping_management.model.User;
 import com.example.ski_jumping_management.repository.TeamRepository;
 import com.example.ski_jumping_management.repository.UserRepository;
+import com.example.ski_jumping_management.security.PrincipalCache;
+import com.example.ski_jumping_management.security.TokenRevocations;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -22,6 +24,8 @@ public class TeamService {
 
     private final TeamRepository teamRepository;
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
+    private final TokenRevocations tokenRevocations;
 
     public Team getTeamById(Integer id) {
         return teamRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("Team not found"));
@@ -66,8 +70,11 @@ public class TeamService {
     public void deleteTeam(Integer id) {
         Team team = teamRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("Team not found"));
 
+        List<Integer> memberIds = userRepository.findUserIdsByTeamId(id);
         userRepository.removeTeamFromUsers(id);
 
         teamRepository.delete(team);
+        principalCache.evictAll();
+        tokenRevocations.revoke(memberIds);
     }
 }
@@ -1,5 +1,6 @@
 package com.example.ski_jumping_management.service;
 
+import com.example.ski_jumping_management.DTO.CursorPage;
 import com.example.ski_jumping_management.DTO.UserRequest;
 import com.example.ski_jumping_management.DTO.UserResponse;
 import com.example.ski_jumping_management.exceptions.BadRequestException;
@@ -11,7 +12,12 @@ import com.example.ski_jumping_management.model.UserRole;
 import com.example.ski_jumping_management.repository.RoleRepository;
 import com.example.ski_jumping_management.repository.TeamRepository;
 import com.example.ski_jumping_management.repository.UserRepository;
+import com.example.ski_jumping_management.repository.specification.UserFilter;
+import com.example.ski_jumping_management.repository.specification.UserSpecifications;
+import com.example.ski_jumping_management.security.AccessPolicy;
 import com.example.ski_jumping_management.security.CustomUserDetails;
+import com.example.ski_jumping_management.security.PrincipalCache;
+import com.example.ski_jumping_management.security.TokenRevocations;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
@@ -37,6 +43,11 @@ public class UserService {
     private final TeamRepository teamRepository;
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
+    private final KeysetCursors keysetCursors;
+    private final PrincipalCache principalCache;
+    private final TokenRevocations tokenRevocations;
+    private final LastLoginWriter lastLoginWriter;
+    private final AccessPolicy accessPolicy;
 
     private void validateNewPassword(String newPassword, String oldPasswordHash) {
         Pattern pattern = Pattern.compile(
@@ -55,18 +66,6 @@ public class UserService {
     }
 
 
-    public boolean hasAnyRole(CustomUserDetails userDetails, UserRole... roles) {
-        if (userDetails == null || userDetails.getAuthorities() == null) return false;
-        return userDetails.getAuthorities().stream()
-                .map(auth -> auth.getAuthority())
-                .anyMatch(roleName -> {
-                    for (UserRole r : roles) {
-                        if (roleName.equals(r.name())) return true;
-                    }
-                    return false;
-                });
-    }
-
     private Set<Role> mapRoleIdsToRoles(Set<Integer> roleIds) {
         return roleIds.stream()
                 .map(roleId -> roleRepository.findById(roleId)
@@ -85,6 +84,32 @@ public class UserService {
         return UserResponse.fromEntity(user);
     }
 
+    private UserFilter buildFilter(
+            Boolean active,
+            BigDecimal minHeight,
+            BigDecimal maxHeight,
+            BigDecimal minWeight,
+            BigDecimal maxWeight,
+            LocalDate birthDateFrom,
+            LocalDate birthDateTo,
+            List<Integer> teamIds,
+            String search,
+            List<Integer> roleIds
+    ) {
+        return UserFilter.builder()
+                .active(active)
+                .minHeight(minHeight)
+                .maxHeight(maxHeight)
+                .minWeight(minWeight)
+                .maxWeight(maxWeight)
+                .birthDateFrom(birthDateFrom)
+                .birthDateTo(birthDateTo)
+                .teamIds(teamIds)
+                .roleIds(roleIds)
+                .search(search)
+                .build();
+    }
+
     public Page<UserResponse> getUsers(
             Boolean active,
             BigDecimal minHeight,
@@ -104,7 +129,7 @@ public class UserService {
         Sort sort;
 
         if (sortBy == null || sortBy.isEmpty()) {
-            sort = Sort.by(Sort.Direction.ASC, "lastName");
+            sort = Sort.by(Sort.Direction.ASC, "firstName");
         } else {
             Sort.Direction direction = Sort.Direction.fromOptionalString(sortDirection).orElse(Sort.Direction.ASC);
             sort = Sort.by(direction, sortBy);
@@ -112,21 +137,49 @@ public class UserService {
 
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        Page<User> usersPage = userRepository.findUsers(
-                active, minHeight, maxHeight, minWeight, maxWeight,
-                birthDateFrom, birthDateTo, teamIds, roleIds, search, pageable
-        );
+        UserFilter filter = buildFilter(active, minHeight, maxHeight, minWeight, maxWeight,
+                birthDateFrom, birthDateTo, teamIds, search, roleIds);
+
+        Page<User> usersPage = userRepository.findAll(UserSpecifications.matching(filter), pageable);
 
         return usersPage.map(UserResponse::fromEntity);
     }
 
+    public CursorPage<UserResponse> getUsersAfter(
+            Boolean active,
+            BigDecimal minHeight,
+            BigDecimal maxHeight,
+            BigDecimal minWeight,
+            BigDecimal maxWeight,
+            LocalDate birthDateFrom,
+            LocalDate birthDateTo,
+            List<Integer> teamIds,
+            String search,
+            List<Integer> roleIds,
+            String after,
+            int limit,
+            String sortBy,
+            String sortDirection
+    ) {
+        Sort sort = keysetCursors.sort(User.class, sortBy == null || sortBy.isEmpty() ? "firstName" : sortBy, sortDirection);
+        KeysetScrollPosition position = keysetCursors.decode(after, User.class, sort);
+        int pageLimit = keysetCursors.limit(limit);
+
+        UserFilter filter = buildFilter(active, minHeight, maxHeight, minWeight, maxWeight,
+                birthDateFrom, birthDateTo, teamIds, search, roleIds);
+
+        Window<User> window = userRepository.findBy(UserSpecifications.matching(filter),
+                query -> query.sortBy(sort).limit(pageLimit).scroll(position));
+        return keysetCursors.page(window).map(UserResponse::fromEntity);
+    }
+
     public UserResponse createUser(UserRequest request, CustomUserDetails currentUser) {
         if (userRepository.existsByLogin(request.getLogin())) {
             throw new ConflictException("Login already exists");
         }
 
-        boolean isManager = hasAnyRole(currentUser, UserRole.MANAGER);
-        boolean isAdmin = hasAnyRole(currentUser, UserRole.ADMIN);
+        boolean isManager = accessPolicy.hasRole(currentUser, UserRole.MANAGER);
+        boolean isAdmin = accessPolicy.hasRole(currentUser, UserRole.ADMIN);
 
         if (request.getRoles() == null || request.getRoles().isEmpty()) {
             throw new BadRequestException("User must have at least one role");
@@ -165,10 +218,10 @@ public class UserService {
             throw new ConflictException("Login already exists");
         }
 
-        boolean isManager = hasAnyRole(currentUser, UserRole.MANAGER);
-        boolean isAdmin = hasAnyRole(currentUser, UserRole.ADMIN);
+        boolean isManager = accessPolicy.hasRole(currentUser, UserRole.MANAGER);
+        boolean isAdmin = accessPolicy.hasRole(currentUser, UserRole.ADMIN);
 
-        if (isManager && !isAdmin && hasAnyRole(new CustomUserDetails(user), UserRole.ADMIN)) {
+        if (isManager && !isAdmin && accessPolicy.hasRole(new CustomUserDetails(user), UserRole.ADMIN)) {
             throw new AccessDeniedException("You cannot modify ADMIN user");
         }
 
@@ -180,6 +233,7 @@ public class UserService {
         if (isManager && !isAdmin && newRoles.stream().anyMatch(r -> r.getName().equals(UserRole.ADMIN))) {
             throw new AccessDeniedException("You cannot assign ADMIN role");
         }
+        CustomUserDetails before = new CustomUserDetails(user);
         user.setRoles(newRoles);
 
         user.setTeams(mapTeamIdsToTeams(request.getTeamIds()));
@@ -196,20 +250,26 @@ public class UserService {
         user.setActive(request.getActive());
 
         userRepository.save(user);
+        CustomUserDetails after = new CustomUserDetails(user);
+        principalCache.evict(before.getLogin());
+        principalCache.evict(after.getLogin());
+        if (!before.getLogin().equals(after.getLogin()) || !before.getRoles().equals(after.getRoles())
+                || !before.getTeamIds().equals(after.getTeamIds()) || before.isActive() != after.isActive()) {
+            tokenRevocations.revoke(user.getId());
+        }
         return UserResponse.fromEntity(user);
     }
 
     public void addUserToTeam(Integer userId, Integer teamId, CustomUserDetails currentUser) {
-        boolean isAdmin = hasAnyRole(currentUser, UserRole.ADMIN);
-        boolean isTrainer = hasAnyRole(currentUser, UserRole.TRAINER);
+        boolean isAdmin = accessPolicy.hasRole(currentUser, UserRole.ADMIN);
+        boolean isTrainer = accessPolicy.hasRole(currentUser, UserRole.TRAINER);
 
         if (!isAdmin && !isTrainer) {
             throw new AccessDeniedException("You cannot add user to team");
         }
 
         if (!isAdmin && isTrainer) {
-            boolean hasTeam = currentUser.getUser().getTeams().stream()
-                    .anyMatch(t -> t.getId().equals(teamId));
+            boolean hasTeam = accessPolicy.isMemberOf(currentUser, teamId);
             if (!hasTeam) {
                 throw new AccessDeniedException("Trainer does not have access to this team");
             }
@@ -227,19 +287,20 @@ public class UserService {
         }
 
         userRepository.addUserToTeam(userId, teamId);
+        principalCache.evict(user.getLogin());
+        tokenRevocations.revoke(userId);
     }
 
     public void removeUserFromTeam(Integer userId, Integer teamId, CustomUserDetails currentUser) {
-        boolean isAdmin = hasAnyRole(currentUser, UserRole.ADMIN);
-        boolean isTrainer = hasAnyRole(currentUser, UserRole.TRAINER);
+        boolean isAdmin = accessPolicy.hasRole(currentUser, UserRole.ADMIN);
+        boolean isTrainer = accessPolicy.hasRole(currentUser, UserRole.TRAINER);
 
         if (!isAdmin && !isTrainer) {
             throw new AccessDeniedException("Ypou cannot remove user from team");
         }
 
         if (!isAdmin && isTrainer) {
-            boolean hasTeam = currentUser.getUser().getTeams().stream()
-                    .anyMatch(t -> t.getId().equals(teamId));
+            boolean hasTeam = accessPolicy.isMemberOf(currentUser, teamId);
             if (!hasTeam) {
                 throw new AccessDeniedException("Trainer does not have access to this team");
             }
@@ -257,16 +318,18 @@ public class UserService {
         }
 
         userRepository.removeUserFromTeam(userId, teamId);
+        principalCache.evict(user.getLogin());
+        tokenRevocations.revoke(userId);
     }
 
     public void resetPasswordByAdminOrOperate(Integer id, String newPassword, CustomUserDetails currentUser) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("User not found"));
 
-        boolean isManager = hasAnyRole(currentUser, UserRole.MANAGER);
-        boolean isAdmin = hasAnyRole(currentUser, UserRole.ADMIN);
+        boolean isManager = accessPolicy.hasRole(currentUser, UserRole.MANAGER);
+        boolean isAdmin = accessPolicy.hasRole(currentUser, UserRole.ADMIN);
 
-        if (isManager && !isAdmin && hasAnyRole(new CustomUserDetails(user), UserRole.ADMIN)) {
+        if (isManager && !isAdmin && accessPolicy.hasRole(new CustomUserDetails(user), UserRole.ADMIN)) {
             throw new AccessDeniedException("You cannot reset password for ADMIN user");
         }
 
@@ -275,6 +338,8 @@ public class UserService {
         user.setPasswordHash(passwordEncoder.encode(newPassword));
         user.setMustChangePassword(true);
         userRepository.save(user);
+        principalCache.evict(user.getLogin());
+        tokenRevocations.revoke(user.getId());
     }
 
     public void changeOwnPassword(CustomUserDetails currentUser, String oldPassword, String newPassword) {
@@ -287,27 +352,32 @@ public class UserService {
 
         validateNewPassword(newPassword, user.getPasswordHash());
 
+        boolean wasForced = Boolean.TRUE.equals(user.getMustChangePassword());
         user.setPasswordHash(passwordEncoder.encode(newPassword));
         user.setMustChangePassword(false);
         userRepository.save(user);
+        principalCache.evict(user.getLogin());
+        if (wasForced) {
+            tokenRevocations.revoke(user.getId());
+        }
     }
 
     public void deleteUser(Integer id, CustomUserDetails currentUser) {
         User user = userRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("User not found"));
 
-        boolean isManager = hasAnyRole(currentUser, UserRole.MANAGER);
-        boolean isAdmin = hasAnyRole(currentUser, UserRole.ADMIN);
+        boolean isManager = accessPolicy.hasRole(currentUser, UserRole.MANAGER);
+        boolean isAdmin = accessPolicy.hasRole(currentUser, UserRole.ADMIN);
 
-        if (isManager && !isAdmin && hasAnyRole(new CustomUserDetails(user), UserRole.ADMIN)) {
+        if (isManager && !isAdmin && accessPolicy.hasRole(new CustomUserDetails(user), UserRole.ADMIN)) {
             throw new AccessDeniedException("You cannot delete ADMIN user");
         }
 
         userRepository.delete(user);
+        principalCache.evict(user.getLogin());
+        tokenRevocations.revokeDeleted(user.getId());
     }
 
     public void updateLastLogin(Integer userId, LocalDateTime loginDate) {
-        User user = userRepository.findById(userId).orElseThrow(() -> new EntityNotFoundException("User not found"));
-        user.setLastLogin(loginDate);
-        userRepository.save(user);
+        lastLoginWriter.record(userId, loginDate);
     }
 }
@@ -0,0 +1,28 @@
+CREATE TABLE public.athlete_season_stats (
+    athlete_id integer NOT NULL,
+    season character varying(9) NOT NULL,
+    hill_id integer NOT NULL,
+    jump_count integer NOT NULL,
+    jump_length_sum numeric NOT NULL,
+    jump_length_count integer NOT NULL,
+    best_jump_length numeric(4,1),
+    total_points_sum numeric NOT NULL,
+    total_points_count integer NOT NULL,
+    speed_takeoff_sum numeric NOT NULL,
+    speed_takeoff_count integer NOT NULL,
+    CONSTRAINT athlete_season_stats_pkey PRIMARY KEY (athlete_id, season, hill_id),
+    CONSTRAINT athlete_season_stats_athlete_id_fkey FOREIGN KEY (athlete_id) REFERENCES public.users(id) ON DELETE CASCADE,
+    CONSTRAINT athlete_season_stats_hill_id_fkey FOREIGN KEY (hill_id) REFERENCES public.hills(id) ON DELETE CASCADE
+);
+
+INSERT INTO public.athlete_season_stats (athlete_id, season, hill_id, jump_count, jump_length_sum, jump_length_count,
+                                         best_jump_length, total_points_sum, total_points_count, speed_takeoff_sum,
+                                         speed_takeoff_count)
+SELECT r.athlete_id, r.season, e.hill_id, count(*),
+       coalesce(sum(r.jump_length), 0), count(r.jump_length), max(r.jump_length),
+       coalesce(sum(r.total_points), 0), count(r.total_points),
+       coalesce(sum(r.speed_takeoff), 0), count(r.speed_takeoff)
+FROM public.results r
+JOIN public.events e ON e.id = r.event_id
+WHERE r.athlete_id IS NOT NULL
+GROUP BY r.athlete_id, r.season, e.hill_id;
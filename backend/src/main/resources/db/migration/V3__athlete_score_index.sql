@@ -0,0 +1,22 @@
+CREATE TABLE public.athlete_score_index (
+    athlete_id integer NOT NULL,
+    hill_size smallint NOT NULL,
+    event_day date NOT NULL,
+    jump_count integer NOT NULL,
+    ratio_level_sum double precision NOT NULL,
+    CONSTRAINT athlete_score_index_pkey PRIMARY KEY (athlete_id, hill_size, event_day),
+    CONSTRAINT athlete_score_index_athlete_id_fkey FOREIGN KEY (athlete_id) REFERENCES public.users(id) ON DELETE CASCADE
+);
+
+CREATE INDEX athlete_score_index_event_day_idx ON public.athlete_score_index (event_day);
+
+INSERT INTO public.athlete_score_index (athlete_id, hill_size, event_day, jump_count, ratio_level_sum)
+SELECT r.athlete_id, h.hill_size, CAST(e.start_date AS date), count(*),
+       sum(CAST(r.jump_length AS double precision) / h.hill_size * e.level)
+FROM public.results r
+JOIN public.events e ON e.id = r.event_id
+JOIN public.hills h ON h.id = e.hill_id
+WHERE r.athlete_id IS NOT NULL
+  AND r.jump_length IS NOT NULL
+  AND h.hill_size > 0
+GROUP BY r.athlete_id, h.hill_size, CAST(e.start_date AS date);
@@ -0,0 +1 @@
+ALTER TABLE public.users ADD COLUMN token_version integer NOT NULL DEFAULT 0;
@@ -0,0 +1,3 @@
+CREATE INDEX IF NOT EXISTS user_teams_team_id_idx ON public.user_teams (team_id, user_id);
+
+CREATE INDEX IF NOT EXISTS event_allowed_team_team_id_idx ON public.event_allowed_team (team_id, event_id);
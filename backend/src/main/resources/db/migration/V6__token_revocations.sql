@@ -0,0 +1,8 @@
+CREATE TABLE public.token_revocations (
+    user_id integer NOT NULL,
+    min_version integer NOT NULL,
+    revoked_at timestamp without time zone NOT NULL,
+    CONSTRAINT token_revocations_pkey PRIMARY KEY (user_id)
+);
+
+CREATE INDEX token_revocations_revoked_at_idx ON public.token_revocations (revoked_at);
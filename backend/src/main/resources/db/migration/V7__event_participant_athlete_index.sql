@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS event_participants_athlete_id_idx ON public.event_participants (athlete_id, event_id);
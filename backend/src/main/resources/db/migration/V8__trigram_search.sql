@@ -0,0 +1,18 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+CREATE OR REPLACE FUNCTION public.search_key(value text) RETURNS text
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT
+    AS $$ SELECT lower(public.unaccent('public.unaccent'::regdictionary, value)) $$;
+
+CREATE INDEX IF NOT EXISTS events_name_search_idx ON public.events
+    USING gin (public.search_key(name) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS users_full_name_search_idx ON public.users
+    USING gin (public.search_key(first_name || ' ' || last_name) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS hills_name_search_idx ON public.hills
+    USING gin (public.search_key(name) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS teams_name_search_idx ON public.teams
+    USING gin (public.search_key(name) gin_trgm_ops);
@@ -0,0 +1,28 @@
+package com.example.ski_jumping_management;
+
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.MountableFile;
+
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(PostgresContainerTest.PostgresContainerConfiguration.class)
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class PostgresContainerTest {
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class PostgresContainerConfiguration {
+
+        @Bean
+        @ServiceConnection
+        PostgreSQLContainer<?> postgres() {
+            return new PostgreSQLContainer<>("postgres:18")
+                    .withDatabaseName("ski_jumping_management_db")
+                    .withCopyFileToContainer(MountableFile.forHostPath("../init.sql"), "/docker-entrypoint-initdb.d/init.sql");
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.ski_jumping_management.repository;
+
+import com.example.ski_jumping_management.DTO.SearchHit;
+import com.example.ski_jumping_management.DTO.SearchHitType;
+import com.example.ski_jumping_management.PostgresContainerTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@Import(SearchRepository.class)
+class SearchRepositoryTest extends PostgresContainerTest {
+
+    @Autowired
+    private SearchRepository searchRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("INSERT INTO teams (name) VALUES ('Łódzkie Orły')");
+        jdbcTemplate.update("INSERT INTO users (first_name, last_name, login, password_hash) VALUES ('Bjørn', 'Østbø', 'bjorn.ostbo', 'x')");
+        jdbcTemplate.update("INSERT INTO events (name, type, hill_id, start_date, end_date, level) " +
+                "SELECT 'Puchar Świata Zakopane', 'TRAINING', min(id), timestamp '2025-12-01 10:00', timestamp '2025-12-01 14:00', 1 FROM hills");
+    }
+
+    @Test
+    void matchesPolishAndNordicNamesWithoutDiacritics() {
+        assertThat(searchRepository.search("lodzkie orly", EnumSet.allOf(SearchHitType.class), 10))
+                .extracting(SearchHit::getType, SearchHit::getLabel)
+                .first().isEqualTo(tuple(SearchHitType.TEAM, "Łódzkie Orły"));
+        assertThat(searchRepository.search("ostbo", EnumSet.allOf(SearchHitType.class), 10))
+                .extracting(SearchHit::getLabel).contains("Bjørn Østbø");
+        assertThat(searchRepository.search("swiata zakop", EnumSet.allOf(SearchHitType.class), 10))
+                .extracting(SearchHit::getLabel).contains("Puchar Świata Zakopane");
+    }
+
+    @Test
+    void searchesOnlyRequestedTypesInScoreOrder() {
+        List<SearchHit> hits = searchRepository.search("orly", EnumSet.of(SearchHitType.USER, SearchHitType.HILL), 10);
+        assertThat(hits).extracting(SearchHit::getType).doesNotContain(SearchHitType.TEAM, SearchHitType.EVENT);
+
+        List<SearchHit> all = searchRepository.search("zakopane", EnumSet.allOf(SearchHitType.class), 10);
+        assertThat(all).extracting(SearchHit::getScore).isSortedAccordingTo((a, b) -> Double.compare(b, a));
+    }
+
+    @Test
+    void treatsLikeWildcardsLiterally() {
+        assertThat(searchRepository.search("%%", EnumSet.allOf(SearchHitType.class), 10)).isEmpty();
+    }
+
+    @Test
+    void trigramIndexesServeTheSearchPredicates() {
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+        String plan = String.join("\n", jdbcTemplate.queryForList(
+                "EXPLAIN SELECT id FROM teams WHERE public.search_key('orly') <% public.search_key(name)", String.class));
+        assertThat(plan).contains("teams_name_search_idx");
+
+        plan = String.join("\n", jdbcTemplate.queryForList(
+                "EXPLAIN SELECT id FROM users WHERE public.search_key(first_name || ' ' || last_name) LIKE public.search_key('%ostbo%')", String.class));
+        assertThat(plan).contains("users_full_name_search_idx");
+    }
+}
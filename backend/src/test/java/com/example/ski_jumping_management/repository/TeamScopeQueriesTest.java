@@ -0,0 +1,54 @@
+package com.example.ski_jumping_management.repository;
+
+import com.example.ski_jumping_management.PostgresContainerTest;
+import com.example.ski_jumping_management.model.Event;
+import com.example.ski_jumping_management.model.Team;
+import com.example.ski_jumping_management.model.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class TeamScopeQueriesTest extends PostgresContainerTest {
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Test
+    void existsQueriesMatchTheEntityIntersection() {
+        List<User> users = userRepository.findAll();
+        List<Event> events = eventRepository.findAll();
+
+        for (User user : users) {
+            Set<Integer> userTeams = teamIds(user.getTeams());
+            for (Event event : events) {
+                boolean expected = !Collections.disjoint(userTeams, teamIds(event.getEventAllowedTeams()));
+                assertThat(userRepository.sharesTeamWithEvent(user.getId(), event.getId())).isEqualTo(expected);
+            }
+            for (User athlete : users) {
+                boolean expected = !Collections.disjoint(userTeams, teamIds(athlete.getTeams()));
+                assertThat(userRepository.sharesTeamWithAthlete(user.getId(), athlete.getId())).isEqualTo(expected);
+            }
+
+            Set<Integer> expectedEvents = events.stream()
+                    .filter(event -> !Collections.disjoint(userTeams, teamIds(event.getEventAllowedTeams())))
+                    .map(Event::getId)
+                    .collect(Collectors.toSet());
+            Set<Integer> allEventIds = events.stream().map(Event::getId).collect(Collectors.toSet());
+            assertThat(userRepository.findEventIdsSharingTeam(user.getId(), allEventIds)).containsExactlyInAnyOrderElementsOf(expectedEvents);
+        }
+    }
+
+    private Set<Integer> teamIds(Set<Team> teams) {
+        return teams.stream().map(Team::getId).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.ski_jumping_management.repository.specification;
+
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.MountableFile;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventFilterBenchmark {
+
+    private static final int EVENTS = 2_000;
+    private static final int TEAMS = 60;
+    private static final int ATHLETES = 600;
+    private static final int TEAMS_PER_EVENT = 10;
+    private static final int PARTICIPANTS_PER_EVENT = 80;
+    private static final int PAGE_SIZE = 20;
+
+    private PostgreSQLContainer<?> postgres;
+    private JdbcTemplate jdbcTemplate;
+    private String distinctPage;
+    private String distinctCount;
+    private String existsPage;
+    private String existsCount;
+
+    @Setup
+    public void setUp() {
+        postgres = new PostgreSQLContainer<>("postgres:18")
+                .withDatabaseName("ski_jumping_management_db")
+                .withCopyFileToContainer(MountableFile.forHostPath("../init.sql"), "/docker-entrypoint-initdb.d/init.sql");
+        postgres.start();
+        Flyway.configure()
+                .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword()));
+        seedSeason();
+
+        String teams = csv(jdbcTemplate.queryForList("SELECT id FROM teams WHERE name LIKE 'Seed team %' ORDER BY id LIMIT 3", Integer.class));
+        String athletes = csv(jdbcTemplate.queryForList("SELECT id FROM users WHERE login LIKE 'seed-athlete-%' ORDER BY id LIMIT 5", Integer.class));
+
+        String joins = "FROM events e " +
+                "LEFT JOIN event_allowed_team eat ON eat.event_id = e.id " +
+                "LEFT JOIN event_participants ep ON ep.event_id = e.id " +
+                "WHERE eat.team_id IN (" + teams + ") AND ep.athlete_id IN (" + athletes + ")";
+        distinctPage = "SELECT DISTINCT e.id, e.start_date " + joins + " ORDER BY e.start_date LIMIT " + PAGE_SIZE;
+        distinctCount = "SELECT count(DISTINCT e.id) " + joins;
+
+        String semiJoins = "FROM events e " +
+                "WHERE EXISTS (SELECT 1 FROM event_allowed_team eat WHERE eat.event_id = e.id AND eat.team_id IN (" + teams + ")) " +
+                "AND EXISTS (SELECT 1 FROM event_participants ep WHERE ep.event_id = e.id AND ep.athlete_id IN (" + athletes + "))";
+        existsPage = "SELECT e.id, e.start_date " + semiJoins + " ORDER BY e.start_date LIMIT " + PAGE_SIZE;
+        existsCount = "SELECT count(e.id) " + semiJoins;
+    }
+
+    @TearDown
+    public void tearDown() {
+        postgres.stop();
+    }
+
+    @Benchmark
+    public List<Integer> distinctOverJoinsPage() {
+        return jdbcTemplate.query(distinctPage, (rs, row) -> rs.getInt(1));
+    }
+
+    @Benchmark
+    public List<Integer> semiJoinsPage() {
+        return jdbcTemplate.query(existsPage, (rs, row) -> rs.getInt(1));
+    }
+
+    @Benchmark
+    public Long distinctOverJoinsCount() {
+        return jdbcTemplate.queryForObject(distinctCount, Long.class);
+    }
+
+    @Benchmark
+    public Long semiJoinsCount() {
+        return jdbcTemplate.queryForObject(existsCount, Long.class);
+    }
+
+    private void seedSeason() {
+        jdbcTemplate.update("INSERT INTO teams (name) SELECT 'Seed team ' || g FROM generate_series(1, ?) g", TEAMS);
+        jdbcTemplate.update("INSERT INTO users (first_name, last_name, login, password_hash) " +
+                "SELECT 'Seed', 'Athlete ' || g, 'seed-athlete-' || g, 'x' FROM generate_series(1, ?) g", ATHLETES);
+        jdbcTemplate.update("INSERT INTO events (name, type, hill_id, start_date, end_date, level) " +
+                "SELECT 'Seed event ' || g, 'TRAINING', (SELECT min(id) FROM hills), " +
+                "timestamp '2025-10-01' + g * interval '2 hours', timestamp '2025-10-01' + g * interval '2 hours' + interval '1 hour', 1 " +
+                "FROM generate_series(1, ?) g", EVENTS);
+        jdbcTemplate.update("WITH e AS (SELECT id, row_number() OVER (ORDER BY id) AS n FROM events WHERE name LIKE 'Seed event %'), " +
+                "t AS (SELECT id, row_number() OVER (ORDER BY id) AS n FROM teams WHERE name LIKE 'Seed team %') " +
+                "INSERT INTO event_allowed_team (event_id, team_id) " +
+                "SELECT e.id, t.id FROM e CROSS JOIN generate_series(0, ?) i JOIN t ON t.n = 1 + (e.n * 7 + i * 5) % ?",
+                TEAMS_PER_EVENT - 1, TEAMS);
+        jdbcTemplate.update("WITH e AS (SELECT id, row_number() OVER (ORDER BY id) AS n FROM events WHERE name LIKE 'Seed event %'), " +
+                "a AS (SELECT id, row_number() OVER (ORDER BY id) AS n FROM users WHERE login LIKE 'seed-athlete-%') " +
+                "INSERT INTO event_participants (event_id, athlete_id, season) " +
+                "SELECT e.id, a.id, '2025/2026' FROM e CROSS JOIN generate_series(0, ?) i JOIN a ON a.n = 1 + (e.n * 13 + i * 7) % ?",
+                PARTICIPANTS_PER_EVENT - 1, ATHLETES);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    private static String csv(List<Integer> ids) {
+        return ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(EventFilterBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
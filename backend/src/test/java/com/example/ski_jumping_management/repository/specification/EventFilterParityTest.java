@@ -0,0 +1,85 @@
+package com.example.ski_jumping_management.repository.specification;
+
+import com.example.ski_jumping_management.PostgresContainerTest;
+import com.example.ski_jumping_management.model.Event;
+import com.example.ski_jumping_management.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class EventFilterParityTest extends PostgresContainerTest {
+
+    private static final int EVENTS = 120;
+    private static final int TEAMS = 12;
+    private static final int ATHLETES = 60;
+    private static final int TEAMS_PER_EVENT = 3;
+    private static final int PARTICIPANTS_PER_EVENT = 8;
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private List<Integer> teamIds;
+    private List<Integer> athleteIds;
+
+    @BeforeEach
+    void seedSeason() {
+        jdbcTemplate.update("INSERT INTO teams (name) SELECT 'Seed team ' || g FROM generate_series(1, ?) g", TEAMS);
+        jdbcTemplate.update("INSERT INTO users (first_name, last_name, login, password_hash) " +
+                "SELECT 'Seed', 'Athlete ' || g, 'seed-athlete-' || g, 'x' FROM generate_series(1, ?) g", ATHLETES);
+        jdbcTemplate.update("INSERT INTO events (name, type, hill_id, start_date, end_date, level) " +
+                "SELECT 'Seed event ' || g, 'TRAINING', (SELECT min(id) FROM hills), " +
+                "timestamp '2025-10-01' + g * interval '2 hours', timestamp '2025-10-01' + g * interval '2 hours' + interval '1 hour', 1 " +
+                "FROM generate_series(1, ?) g", EVENTS);
+        jdbcTemplate.update("WITH e AS (SELECT id, row_number() OVER (ORDER BY id) AS n FROM events WHERE name LIKE 'Seed event %'), " +
+                "t AS (SELECT id, row_number() OVER (ORDER BY id) AS n FROM teams WHERE name LIKE 'Seed team %') " +
+                "INSERT INTO event_allowed_team (event_id, team_id) " +
+                "SELECT e.id, t.id FROM e CROSS JOIN generate_series(0, ?) i JOIN t ON t.n = 1 + (e.n * 7 + i * 5) % ?",
+                TEAMS_PER_EVENT - 1, TEAMS);
+        jdbcTemplate.update("WITH e AS (SELECT id, row_number() OVER (ORDER BY id) AS n FROM events WHERE name LIKE 'Seed event %'), " +
+                "a AS (SELECT id, row_number() OVER (ORDER BY id) AS n FROM users WHERE login LIKE 'seed-athlete-%') " +
+                "INSERT INTO event_participants (event_id, athlete_id, season) " +
+                "SELECT e.id, a.id, '2025/2026' FROM e CROSS JOIN generate_series(0, ?) i JOIN a ON a.n = 1 + (e.n * 13 + i * 7) % ?",
+                PARTICIPANTS_PER_EVENT - 1, ATHLETES);
+
+        teamIds = jdbcTemplate.queryForList("SELECT id FROM teams WHERE name LIKE 'Seed team %' ORDER BY id LIMIT 3", Integer.class);
+        athleteIds = jdbcTemplate.queryForList("SELECT id FROM users WHERE login LIKE 'seed-athlete-%' ORDER BY id LIMIT 5", Integer.class);
+    }
+
+    @Test
+    void semiJoinsReturnTheSamePageAsDistinctOverJoins() {
+        EventFilter filter = EventFilter.builder().teamIds(teamIds).athleteIds(athleteIds).build();
+        Page<Event> page = eventRepository.findAll(EventSpecifications.matching(filter),
+                PageRequest.of(0, PAGE_SIZE, Sort.by("startDate")));
+
+        String joins = "FROM events e " +
+                "LEFT JOIN event_allowed_team eat ON eat.event_id = e.id " +
+                "LEFT JOIN event_participants ep ON ep.event_id = e.id " +
+                "WHERE eat.team_id IN (" + csv(teamIds) + ") AND ep.athlete_id IN (" + csv(athleteIds) + ")";
+        String legacyPage = "SELECT DISTINCT e.id, e.start_date " + joins + " ORDER BY e.start_date LIMIT " + PAGE_SIZE;
+        String legacyCount = "SELECT count(DISTINCT e.id) " + joins;
+
+        List<Integer> legacyIds = jdbcTemplate.query(legacyPage, (rs, row) -> rs.getInt("id"));
+        Long legacyTotal = jdbcTemplate.queryForObject(legacyCount, Long.class);
+        assertThat(page.getContent()).extracting(Event::getId).containsExactlyElementsOf(legacyIds);
+        assertThat(legacyTotal).isGreaterThan((long) PAGE_SIZE);
+        assertThat(page.getTotalElements()).isEqualTo(legacyTotal);
+    }
+
+    private static String csv(List<Integer> ids) {
+        return ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+}
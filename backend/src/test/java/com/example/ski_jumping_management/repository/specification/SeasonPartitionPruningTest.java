@@ -0,0 +1,74 @@
+package com.example.ski_jumping_management.repository.specification;
+
+import com.example.ski_jumping_management.PostgresContainerTest;
+import com.example.ski_jumping_management.repository.EventParticipantRepository;
+import com.example.ski_jumping_management.repository.ResultRepository;
+import com.example.ski_jumping_management.service.Seasons;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.example.ski_jumping_management.repository.specification.SqlCapture",
+        "spring.jpa.properties.hibernate.query.in_clause_parameter_padding=true"
+})
+class SeasonPartitionPruningTest extends PostgresContainerTest {
+
+    @Autowired
+    private ResultRepository resultRepository;
+    @Autowired
+    private EventParticipantRepository participantRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void clearCapturedSql() {
+        SqlCapture.clear();
+    }
+
+    @Test
+    void closedDateWindowTouchesOnlyItsSeasonPartition() {
+        LocalDateTime start = LocalDateTime.of(2025, 9, 1, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2025, 12, 31, 23, 59, 59);
+        ResultFilter filter = Seasons.restrictToPartitions(ResultFilter.builder().startDate(start).endDate(end).build());
+
+        resultRepository.findAll(ResultSpecifications.matching(filter));
+        String sql = SqlCapture.first();
+        assertThat(sql).contains("season in (?) and e1_0.start_date>=? and e1_0.start_date<=?");
+
+        String plan = explain(sql, "2025/2026", start, end);
+        assertThat(plan).contains("results_2025_2026").doesNotContain("results_2026_2027");
+    }
+
+    @Test
+    void openDateWindowTouchesOnlyLaterSeasonPartitions() {
+        LocalDateTime start = LocalDateTime.of(2026, 6, 1, 0, 0);
+        ResultFilter filter = Seasons.restrictToPartitions(ResultFilter.builder().startDate(start).build());
+
+        resultRepository.findAll(ResultSpecifications.matching(filter));
+        String sql = SqlCapture.first();
+        assertThat(sql).contains("season>=? and e1_0.start_date>=?");
+
+        String plan = explain(sql, "2026/2027", start);
+        assertThat(plan).contains("results_2026_2027").doesNotContain("results_2025_2026");
+    }
+
+    @Test
+    void participantsOfEventTouchOnlyItsSeasonPartition() {
+        participantRepository.findByEventIdAndSeason(1, "2025/2026");
+        String sql = SqlCapture.first();
+
+        String plan = explain(sql, 1, "2025/2026");
+        assertThat(plan).contains("event_participants_2025_2026").doesNotContain("event_participants_2026_2027");
+    }
+
+    private String explain(String sql, Object... args) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, args));
+    }
+}
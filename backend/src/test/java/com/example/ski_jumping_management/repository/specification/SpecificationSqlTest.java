@@ -0,0 +1,257 @@
+package com.example.ski_jumping_management.repository.specification;
+
+import com.example.ski_jumping_management.model.EventType;
+import com.example.ski_jumping_management.model.SeverityLevel;
+import com.example.ski_jumping_management.repository.EventRepository;
+import com.example.ski_jumping_management.repository.HillRepository;
+import com.example.ski_jumping_management.repository.InjuryRepository;
+import com.example.ski_jumping_management.repository.ResultRepository;
+import com.example.ski_jumping_management.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.example.ski_jumping_management.repository.specification.SqlCapture",
+        "spring.jpa.properties.hibernate.query.in_clause_parameter_padding=true"
+})
+class SpecificationSqlTest {
+
+    @Autowired
+    private ResultRepository resultRepository;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private InjuryRepository injuryRepository;
+    @Autowired
+    private HillRepository hillRepository;
+
+    @BeforeEach
+    void clearCapturedSql() {
+        SqlCapture.clear();
+    }
+
+    static Stream<Arguments> resultFilters() {
+        return Stream.of(
+                resultCase("eventId", b -> b.eventId(1), "event_id=?"),
+                resultCase("athleteIds", b -> b.athleteIds(List.of(1, 2, 3)), "athlete_id in (?,?,?,?)"),
+                resultCase("seasons", b -> b.seasons(List.of("2025/2026")), "season in (?)"),
+                resultCase("attemptNumber", b -> b.attemptNumber((short) 1), "attempt_number=?"),
+                resultCase("minJumpLength", b -> b.minJumpLength(BigDecimal.ONE), "jump_length>=?"),
+                resultCase("maxJumpLength", b -> b.maxJumpLength(BigDecimal.ONE), "jump_length<=?"),
+                resultCase("minStylePoints", b -> b.minStylePoints(BigDecimal.ONE), "style_points>=?"),
+                resultCase("maxStylePoints", b -> b.maxStylePoints(BigDecimal.ONE), "style_points<=?"),
+                resultCase("minWindCompensation", b -> b.minWindCompensation(BigDecimal.ONE), "wind_compensation>=?"),
+                resultCase("maxWindCompensation", b -> b.maxWindCompensation(BigDecimal.ONE), "wind_compensation<=?"),
+                resultCase("minGate", b -> b.minGate((short) 1), "gate>=?"),
+                resultCase("maxGate", b -> b.maxGate((short) 1), "gate<=?"),
+                resultCase("minTotalPoints", b -> b.minTotalPoints(BigDecimal.ONE), "total_points>=?"),
+                resultCase("maxTotalPoints", b -> b.maxTotalPoints(BigDecimal.ONE), "total_points<=?"),
+                resultCase("minSpeedTakeoff", b -> b.minSpeedTakeoff(BigDecimal.ONE), "speed_takeoff>=?"),
+                resultCase("maxSpeedTakeoff", b -> b.maxSpeedTakeoff(BigDecimal.ONE), "speed_takeoff<=?"),
+                resultCase("minFlightTime", b -> b.minFlightTime(BigDecimal.ONE), "flight_time>=?"),
+                resultCase("maxFlightTime", b -> b.maxFlightTime(BigDecimal.ONE), "flight_time<=?"),
+                resultCase("startDate", b -> b.startDate(LocalDateTime.now()), "start_date>=?"),
+                resultCase("endDate", b -> b.endDate(LocalDateTime.now()), "start_date<=?")
+        );
+    }
+
+    private static Arguments resultCase(String name, Consumer<ResultFilter.ResultFilterBuilder> setter, String expected) {
+        ResultFilter.ResultFilterBuilder builder = ResultFilter.builder();
+        setter.accept(builder);
+        return Arguments.of(name, builder.build(), expected);
+    }
+
+    @Test
+    void emptyResultFilterHasNoWhereClause() {
+        resultRepository.findAll(ResultSpecifications.matching(ResultFilter.builder().build()));
+
+        String sql = SqlCapture.first();
+        assertThat(sql).doesNotContainIgnoringCase(" where ");
+    }
+
+    @ParameterizedTest(name = "results [{0}]")
+    @MethodSource("resultFilters")
+    void singleResultFilterEmitsSinglePredicate(String name, ResultFilter filter, String expected) {
+        resultRepository.findAll(ResultSpecifications.matching(filter));
+
+        String sql = SqlCapture.first();
+        assertThat(whereClause(sql)).contains(expected);
+        assertThat(whereClause(sql)).doesNotContain(" or ").doesNotContain(" and ");
+    }
+
+    @Test
+    void resultViewsAreFetchedInSingleStatement() {
+        resultRepository.findViews(ResultFilter.builder().eventId(1).build(), Pageable.unpaged());
+
+        String sql = SqlCapture.first();
+        assertThat(SqlCapture.count()).isEqualTo(1);
+        assertThat(sql).contains("join events").contains("join hills").contains("join users")
+                .doesNotContain("password_hash");
+    }
+
+    @Test
+    void eventFiltersJoinTeamsOnlyWhenRequested() {
+        eventRepository.findAll(EventSpecifications.matching(EventFilter.builder().type(EventType.TRAINING).level((short) 1).build()));
+        String withoutTeams = SqlCapture.first();
+        assertThat(withoutTeams).doesNotContain("event_allowed_team").doesNotContain("distinct");
+
+        SqlCapture.clear();
+        eventRepository.findAll(EventSpecifications.matching(EventFilter.builder().teamIds(List.of(9)).athleteIds(List.of(28)).build()));
+        String withTeams = SqlCapture.first();
+        assertThat(withTeams).contains("event_allowed_team").contains("event_participants");
+        assertThat(withTeams).contains("exists").doesNotContain("distinct");
+    }
+
+    @Test
+    void eventPageCountDoesNotJoinTeamsOrParticipants() {
+        EventFilter filter = EventFilter.builder().teamIds(List.of(9)).athleteIds(List.of(28)).build();
+        eventRepository.findAll(EventSpecifications.matching(filter), PageRequest.of(1, 5));
+        String count = SqlCapture.all().stream().filter(sql -> sql.contains("count(")).findFirst().orElseThrow();
+        assertThat(count).doesNotContain("distinct");
+        assertThat(count.substring(0, count.indexOf(" where "))).doesNotContain("join");
+    }
+
+    @Test
+    void userSearchEmitsOnlySuppliedPredicates() {
+        userRepository.findAll(UserSpecifications.matching(UserFilter.builder().search("kam").build()));
+        String sql = SqlCapture.first();
+        assertThat(sql).doesNotContain("user_teams").doesNotContain("user_roles");
+        assertThat(whereClause(sql)).doesNotContain("height").doesNotContain("active");
+    }
+
+    @Test
+    void injuryEventWindowEmitsOverlapPredicates() {
+        injuryRepository.findAll(InjurySpecifications.matching(InjuryFilter.builder()
+                .severity(SeverityLevel.HIGH)
+                .eventStart(LocalDate.now())
+                .eventEnd(LocalDate.now())
+                .build()));
+        String sql = SqlCapture.first();
+        assertThat(whereClause(sql)).contains("severity=?").contains("recovery_date is null").contains("injury_date<=?");
+        assertThat(sql).doesNotContain("user_teams");
+    }
+
+    @Test
+    void hillRangeEmitsOnlySuppliedBounds() {
+        hillRepository.findAll(HillSpecifications.matching(HillFilter.builder().minHillSize((short) 100).build()));
+        String sql = SqlCapture.first();
+        assertThat(whereClause(sql)).contains("hill_size>=?").doesNotContain("k_point").doesNotContain("like");
+    }
+
+    @Test
+    void combinedResultFiltersAreAndedWithoutExtraJoins() {
+        String baseline = capture(() -> resultRepository.findAll(ResultSpecifications.matching(ResultFilter.builder().build())));
+
+        String sql = capture(() -> resultRepository.findAll(ResultSpecifications.matching(ResultFilter.builder()
+                .eventId(1)
+                .athleteIds(List.of(1, 2))
+                .minJumpLength(BigDecimal.ONE)
+                .maxGate((short) 12)
+                .build())));
+
+        assertAnded(sql, "event_id=?", "athlete_id in (?,?)", "jump_length>=?", "gate<=?");
+        assertThat(joins(sql)).isEqualTo(joins(baseline));
+    }
+
+    @Test
+    void combinedEventFiltersAreAndedWithoutExtraJoins() {
+        String baseline = capture(() -> eventRepository.findAll(EventSpecifications.matching(EventFilter.builder().build())));
+
+        String sql = capture(() -> eventRepository.findAll(EventSpecifications.matching(EventFilter.builder()
+                .type(EventType.TRAINING)
+                .hillId(1)
+                .startDateFrom(LocalDateTime.now())
+                .level((short) 1)
+                .build())));
+
+        assertAnded(sql, "type=?", "hill_id=?", "start_date>=?", "level=?");
+        assertThat(joins(sql)).isEqualTo(joins(baseline));
+    }
+
+    @Test
+    void combinedUserFiltersAreAndedWithoutExtraJoins() {
+        String baseline = capture(() -> userRepository.findAll(UserSpecifications.matching(UserFilter.builder().build())));
+
+        String sql = capture(() -> userRepository.findAll(UserSpecifications.matching(UserFilter.builder()
+                .active(true)
+                .minHeight(BigDecimal.ONE)
+                .maxWeight(BigDecimal.TEN)
+                .birthDateFrom(LocalDate.now())
+                .build())));
+
+        assertAnded(sql, "active=?", "height>=?", "weight<=?", "birth_date>=?");
+        assertThat(joins(sql)).isEqualTo(joins(baseline));
+    }
+
+    @Test
+    void combinedInjuryFiltersAreAndedWithoutExtraJoins() {
+        String baseline = capture(() -> injuryRepository.findAll(InjurySpecifications.matching(InjuryFilter.builder().build())));
+
+        String sql = capture(() -> injuryRepository.findAll(InjurySpecifications.matching(InjuryFilter.builder()
+                .athleteIds(List.of(1, 2))
+                .severity(SeverityLevel.HIGH)
+                .injuryFrom(LocalDate.now())
+                .recoveryTo(LocalDate.now())
+                .build())));
+
+        assertAnded(sql, "athlete_id in (?,?)", "severity=?", "injury_date>=?", "recovery_date<=?");
+        assertThat(joins(sql)).isEqualTo(joins(baseline));
+    }
+
+    @Test
+    void combinedHillFiltersAreAndedWithoutExtraJoins() {
+        String baseline = capture(() -> hillRepository.findAll(HillSpecifications.matching(HillFilter.builder().build())));
+
+        String sql = capture(() -> hillRepository.findAll(HillSpecifications.matching(HillFilter.builder()
+                .country("nor")
+                .minHillSize((short) 100)
+                .maxKPoint((short) 140)
+                .build())));
+
+        assertAnded(sql, "country) like ?", "hill_size>=?", "k_point<=?");
+        assertThat(joins(sql)).isEqualTo(joins(baseline));
+    }
+
+    private static String capture(Runnable query) {
+        SqlCapture.clear();
+        query.run();
+        return SqlCapture.first();
+    }
+
+    private static void assertAnded(String sql, String... predicates) {
+        String where = whereClause(sql);
+        for (String predicate : predicates) {
+            assertThat(where).contains(predicate);
+        }
+        assertThat(where.split(" and ")).hasSize(predicates.length);
+        assertThat(where).doesNotContain(" or ");
+    }
+
+    private static int joins(String sql) {
+        return sql.split(" join ", -1).length - 1;
+    }
+
+    private static String whereClause(String sql) {
+        int where = sql.indexOf(" where ");
+        return where < 0 ? "" : sql.substring(where + " where ".length());
+    }
+}
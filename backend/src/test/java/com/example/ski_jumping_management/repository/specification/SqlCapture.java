@@ -0,0 +1,33 @@
+package com.example.ski_jumping_management.repository.specification;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class SqlCapture implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new ArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    static void clear() {
+        STATEMENTS.clear();
+    }
+
+    static int count() {
+        return STATEMENTS.size();
+    }
+
+    static String first() {
+        return STATEMENTS.get(0);
+    }
+
+    static List<String> all() {
+        return List.copyOf(STATEMENTS);
+    }
+}
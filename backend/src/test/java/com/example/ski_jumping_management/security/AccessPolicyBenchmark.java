@@ -0,0 +1,88 @@
+package com.example.ski_jumping_management.security;
+
+import com.example.ski_jumping_management.model.Team;
+import com.example.ski_jumping_management.model.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.profile.GCProfiler;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccessPolicyBenchmark {
+
+    private final AccessPolicy policy = new AccessPolicy(null, null);
+    private CustomUserDetails trainer;
+    private Set<Team> eventTeams;
+
+    @Setup
+    public void setUp() {
+        trainer = new CustomUserDetails(5, "trainer", null, Set.of(UserRole.TRAINER),
+                Set.of(4, 17, 23), true, false, 0);
+        eventTeams = IntStream.rangeClosed(18, 27).mapToObj(id -> {
+            Team team = new Team();
+            team.setId(id);
+            return team;
+        }).collect(Collectors.toCollection(HashSet::new));
+    }
+
+    @Benchmark
+    public boolean streamedAuthoritiesAndTeamSets() {
+        boolean isTrainer = legacyHasAnyRole(trainer, UserRole.TRAINER);
+        boolean isAdmin = legacyHasAnyRole(trainer, UserRole.ADMIN);
+        if (!isTrainer || isAdmin) {
+            return true;
+        }
+        Set<Integer> trainerTeamIds = trainer.getTeamIds();
+        Set<Integer> eventTeamIds = eventTeams.stream().map(Team::getId).collect(Collectors.toSet());
+        return trainerTeamIds.stream().anyMatch(eventTeamIds::contains);
+    }
+
+    @Benchmark
+    public boolean accessPolicy() {
+        boolean isTrainer = policy.hasRole(trainer, UserRole.TRAINER);
+        boolean isAdmin = policy.hasRole(trainer, UserRole.ADMIN);
+        if (!isTrainer || isAdmin) {
+            return true;
+        }
+        return policy.sharesTeam(trainer, eventTeams);
+    }
+
+    private static boolean legacyHasAnyRole(CustomUserDetails userDetails, UserRole... roles) {
+        return userDetails.getAuthorities().stream()
+                .map(auth -> auth.getAuthority())
+                .anyMatch(roleName -> {
+                    for (UserRole r : roles) {
+                        if (roleName.equals(r.name())) return true;
+                    }
+                    return false;
+                });
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AccessPolicyBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.ski_jumping_management.security;
+
+import com.example.ski_jumping_management.model.Team;
+import com.example.ski_jumping_management.model.UserRole;
+import com.example.ski_jumping_management.repository.EventRepository;
+import com.example.ski_jumping_management.repository.UserRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.access.AccessDeniedException;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class AccessPolicyTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final EventRepository eventRepository = mock(EventRepository.class);
+    private final AccessPolicy policy = new AccessPolicy(userRepository, eventRepository);
+    private final CustomUserDetails trainer = new CustomUserDetails(5, "trainer", null,
+            Set.of(UserRole.TRAINER, UserRole.INJURY_MANAGER), Set.of(12, 3, 7), true, false, 0);
+
+    @Test
+    void rolesAreCheckedAgainstTheMask() {
+        assertThat(policy.hasRole(trainer, UserRole.TRAINER)).isTrue();
+        assertThat(policy.hasRole(trainer, UserRole.INJURY_MANAGER)).isTrue();
+        assertThat(policy.hasRole(trainer, UserRole.ADMIN)).isFalse();
+        assertThat(policy.hasRole(null, UserRole.ADMIN)).isFalse();
+    }
+
+    @Test
+    void teamChecksUseTheSortedTeamIds() {
+        assertThat(policy.isMemberOf(trainer, 7)).isTrue();
+        assertThat(policy.isMemberOf(trainer, 8)).isFalse();
+        assertThat(policy.isMemberOf(trainer, null)).isFalse();
+        assertThat(policy.sharesTeam(trainer, Set.of(team(1), team(12)))).isTrue();
+        assertThat(policy.sharesTeam(trainer, Set.of(team(1), team(2)))).isFalse();
+        assertThat(policy.sharesTeam(trainer, Set.of())).isFalse();
+    }
+
+    @Test
+    void eventAccessIsAnsweredByTheExistsQuery() {
+        when(userRepository.sharesTeamWithEvent(5, 40)).thenReturn(true);
+        when(eventRepository.existsById(41)).thenReturn(true);
+
+        assertThatCode(() -> policy.requireEventAccess(trainer, UserRole.TRAINER, 40, "denied")).doesNotThrowAnyException();
+        assertThatThrownBy(() -> policy.requireEventAccess(trainer, UserRole.TRAINER, 41, "denied"))
+                .isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(() -> policy.requireEventAccess(trainer, UserRole.TRAINER, 42, "denied"))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    void unscopedRolesAndAdminsSkipTheQuery() {
+        CustomUserDetails admin = new CustomUserDetails(1, "admin", null,
+                Set.of(UserRole.ADMIN, UserRole.TRAINER), Set.of(3), true, false, 0);
+        CustomUserDetails manager = new CustomUserDetails(2, "manager", null,
+                Set.of(UserRole.MANAGER), Set.of(3), true, false, 0);
+
+        policy.requireEventAccess(admin, UserRole.TRAINER, 40, "denied");
+        policy.requireEventAccess(manager, UserRole.TRAINER, 40, "denied");
+        policy.requireAthleteAccess(trainer, UserRole.ATHLETE, 9, "denied");
+
+        verifyNoInteractions(userRepository, eventRepository);
+    }
+
+    @Test
+    void principalsWithoutTeamsAreDeniedWithoutTheExistsQuery() {
+        CustomUserDetails loneManager = new CustomUserDetails(6, "injuries", null,
+                Set.of(UserRole.INJURY_MANAGER), Set.of(), true, false, 0);
+        when(userRepository.existsById(9)).thenReturn(true);
+
+        assertThatThrownBy(() -> policy.requireAthleteAccess(loneManager, UserRole.INJURY_MANAGER, 9, "denied"))
+                .isInstanceOf(AccessDeniedException.class);
+        assertThat(policy.eventsSharingTeam(loneManager, Set.of(1, 2))).isEmpty();
+    }
+
+    private Team team(int id) {
+        Team team = new Team();
+        team.setId(id);
+        return team;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.ski_jumping_management.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    void neverReportsAnInsertedValueAsMissing() {
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+        IntStream.range(0, 1_000).map(i -> i * 7).forEach(filter::put);
+
+        assertThat(IntStream.range(0, 1_000).map(i -> i * 7).allMatch(filter::mightContain)).isTrue();
+    }
+
+    @Test
+    void keepsTheFalsePositiveRateNearTheConfiguredTarget() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(filter::put);
+
+        long falsePositives = IntStream.range(1_000_000, 1_100_000).filter(filter::mightContain).count();
+
+        assertThat(falsePositives).isLessThan(2_000);
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.ski_jumping_management.security;
+
+import com.example.ski_jumping_management.model.Role;
+import com.example.ski_jumping_management.model.Team;
+import com.example.ski_jumping_management.model.User;
+import com.example.ski_jumping_management.model.UserRole;
+import com.example.ski_jumping_management.repository.UserRepository;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({"0", "4096"})
+    private int claimsCacheSize;
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        JwtService jwtService = new JwtService(claimsCacheSize);
+        TokenRevocations tokenRevocations = Mockito.mock(TokenRevocations.class);
+        filter = new JwtAuthenticationFilter(jwtService, Mockito.mock(UserRepository.class),
+                new PrincipalCache(Duration.ofSeconds(60), 16), tokenRevocations, true);
+
+        request = new MockHttpServletRequest("GET", "/events");
+        request.setServletPath("/events");
+        request.addHeader("Authorization", "Bearer " + jwtService.generateToken(trainer()));
+    }
+
+    @Benchmark
+    public Object authenticate() throws Exception {
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+
+    private User trainer() {
+        Team team = new Team();
+        team.setId(3);
+        User user = new User();
+        user.setId(5);
+        user.setLogin("trainer");
+        user.setMustChangePassword(false);
+        user.setRoles(Set.of(new Role(1, UserRole.TRAINER)));
+        user.setTeams(Set.of(team));
+        return user;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtAuthenticationFilterBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.ski_jumping_management.security;
+
+import com.example.ski_jumping_management.model.Role;
+import com.example.ski_jumping_management.model.Team;
+import com.example.ski_jumping_management.model.User;
+import com.example.ski_jumping_management.model.UserRole;
+import com.example.ski_jumping_management.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class JwtAuthenticationFilterTest {
+
+    private final JwtService jwtService = new JwtService(16);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final TokenRevocations tokenRevocations = mock(TokenRevocations.class);
+    private final JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtService, userRepository,
+            new PrincipalCache(Duration.ofSeconds(60), 16), tokenRevocations, true);
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void statelessModeBuildsPrincipalFromClaimsWithoutLoadingTheUser() throws Exception {
+        filter.doFilter(request(jwtService.generateToken(trainer(2))), new MockHttpServletResponse(), new MockFilterChain());
+
+        CustomUserDetails principal = (CustomUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        assertThat(principal.getUserId()).isEqualTo(5);
+        assertThat(principal.getRoles()).containsExactly(UserRole.TRAINER);
+        assertThat(principal.getTeamIds()).containsExactlyInAnyOrder(3, 4);
+        assertThat(principal.getAuthorities()).extracting("authority").containsExactly("TRAINER");
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void statelessModeRejectsRevokedTokenVersions() {
+        when(tokenRevocations.isRevoked(5, 1)).thenReturn(true);
+
+        assertThatThrownBy(() -> filter.doFilter(request(jwtService.generateToken(trainer(1))),
+                new MockHttpServletResponse(), new MockFilterChain()))
+                .isInstanceOf(BadCredentialsException.class);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    private MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/events");
+        request.setServletPath("/events");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+
+    private User trainer(int tokenVersion) {
+        User user = new User();
+        user.setId(5);
+        user.setLogin("trainer");
+        user.setMustChangePassword(false);
+        user.setTokenVersion(tokenVersion);
+        user.setRoles(Set.of(new Role(1, UserRole.TRAINER)));
+        user.setTeams(Set.of(team(3), team(4)));
+        return user;
+    }
+
+    private Team team(int id) {
+        Team team = new Team();
+        team.setId(id);
+        return team;
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.ski_jumping_management.security;
+
+import com.example.ski_jumping_management.model.Role;
+import com.example.ski_jumping_management.model.User;
+import com.example.ski_jumping_management.model.UserRole;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtServiceTest {
+
+    private final JwtService jwtService = new JwtService(2);
+
+    @Test
+    void repeatedTokensAreVerifiedOnce() {
+        String token = jwtService.generateToken(user("manager"));
+
+        assertThat(jwtService.extractClaims(token)).isSameAs(jwtService.extractClaims(token));
+        assertThat(jwtService.extractUsername(token)).isEqualTo("manager");
+        assertThat(jwtService.extractRoles(token)).containsExactly("MANAGER");
+        assertThat(jwtService.cachedClaimsCount()).isEqualTo(1);
+    }
+
+    @Test
+    void tamperedTokensAreRejectedAndNotCached() {
+        String token = jwtService.generateToken(user("manager"));
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertThatThrownBy(() -> jwtService.extractClaims(tampered)).isInstanceOf(SignatureException.class);
+        assertThat(jwtService.cachedClaimsCount()).isZero();
+    }
+
+    @Test
+    void claimsCacheIsBounded() {
+        for (int i = 0; i < 10; i++) {
+            jwtService.extractClaims(jwtService.generateToken(user("user" + i)));
+        }
+
+        assertThat(jwtService.cachedClaimsCount()).isEqualTo(2);
+    }
+
+    private User user(String login) {
+        User user = new User();
+        user.setId(1);
+        user.setLogin(login);
+        user.setRoles(Set.of(new Role(2, UserRole.MANAGER)));
+        return user;
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.ski_jumping_management.security;
+
+import com.example.ski_jumping_management.exceptions.TooManyRequestsException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginThrottleTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private final LoginThrottle throttle = new LoginThrottle(3, Duration.ofMinutes(15), Duration.ofMinutes(5), 100, now::get);
+
+    @Test
+    void repeatedFailuresLockTheLoginUntilTheLockoutPasses() {
+        for (int i = 0; i < 3; i++) {
+            throttle.checkAllowed("Trainer");
+            throttle.recordFailure("trainer");
+        }
+
+        assertThatThrownBy(() -> throttle.checkAllowed("trainer"))
+                .isInstanceOf(TooManyRequestsException.class)
+                .extracting("retryAfterSeconds").isEqualTo(300L);
+        assertThatCode(() -> throttle.checkAllowed("someone-else")).doesNotThrowAnyException();
+
+        now.addAndGet(Duration.ofMinutes(5).toMillis());
+        assertThatCode(() -> throttle.checkAllowed("trainer")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void failuresOutsideTheWindowAndSuccessfulLoginsResetTheCount() {
+        throttle.recordFailure("trainer");
+        throttle.recordFailure("trainer");
+        now.addAndGet(Duration.ofMinutes(16).toMillis());
+        throttle.recordFailure("trainer");
+        assertThatCode(() -> throttle.checkAllowed("trainer")).doesNotThrowAnyException();
+
+        throttle.recordFailure("trainer");
+        throttle.recordSuccess("trainer");
+        throttle.recordFailure("trainer");
+        assertThatCode(() -> throttle.checkAllowed("trainer")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void expiredEntriesArePurged() {
+        throttle.recordFailure("a");
+        throttle.recordFailure("b");
+        now.addAndGet(Duration.ofMinutes(16).toMillis());
+
+        throttle.purgeExpired();
+
+        assertThat(throttle.trackedLogins()).isZero();
+    }
+
+    @Test
+    void failuresForManyDistinctLoginsStayBoundedAndKeepLockouts() {
+        for (int i = 0; i < 3; i++) {
+            throttle.recordFailure("trainer");
+        }
+
+        for (int i = 0; i < 1_000; i++) {
+            now.incrementAndGet();
+            throttle.recordFailure("random-" + i);
+        }
+
+        assertThat(throttle.trackedLogins()).isLessThanOrEqualTo(100);
+        assertThatThrownBy(() -> throttle.checkAllowed("trainer")).isInstanceOf(TooManyRequestsException.class);
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.ski_jumping_management.security;
+
+import com.example.ski_jumping_management.model.UserRole;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrincipalCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final PrincipalCache cache = new PrincipalCache(Duration.ofSeconds(60), 4, now::get);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void cachedPrincipalIsReusedUntilTtlExpires() {
+        CustomUserDetails first = cache.get("trainer", () -> load(1, "trainer", Set.of(7)));
+        now.addAndGet(Duration.ofSeconds(59).toNanos());
+        CustomUserDetails second = cache.get("trainer", () -> load(1, "trainer", Set.of(8)));
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+
+        now.addAndGet(Duration.ofSeconds(2).toNanos());
+        CustomUserDetails third = cache.get("trainer", () -> load(1, "trainer", Set.of(8)));
+
+        assertThat(third.getTeamIds()).containsExactly(8);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void evictionForcesReload() {
+        cache.get("trainer", () -> load(1, "trainer", Set.of(7)));
+        cache.evict("trainer");
+
+        assertThat(cache.get("trainer", () -> load(1, "trainer", Set.of(9))).getTeamIds()).containsExactly(9);
+
+        cache.evictUser(1);
+
+        assertThat(cache.get("trainer", () -> load(1, "trainer", Set.of(10))).getTeamIds()).containsExactly(10);
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void loadRacingAnEvictionIsNotCached() {
+        cache.get("trainer", () -> {
+            CustomUserDetails stale = load(1, "trainer", Set.of(7));
+            cache.evict("trainer");
+            return stale;
+        });
+
+        assertThat(cache.get("trainer", () -> load(1, "trainer", Set.of(9))).getTeamIds()).containsExactly(9);
+    }
+
+    @Test
+    void cacheIsBounded() {
+        for (int id = 0; id < 20; id++) {
+            int userId = id;
+            cache.get("user" + id, () -> load(userId, "user" + userId, Set.of()));
+        }
+
+        assertThat(cache.size()).isEqualTo(4);
+    }
+
+    private CustomUserDetails load(Integer userId, String login, Set<Integer> teamIds) {
+        loads.incrementAndGet();
+        return new CustomUserDetails(userId, login, "hash", Set.of(UserRole.TRAINER), teamIds, true, false, 0);
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.ski_jumping_management.security;
+
+import com.example.ski_jumping_management.model.TokenRevocation;
+import com.example.ski_jumping_management.repository.TokenRevocationRepository;
+import com.example.ski_jumping_management.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenRevocationsTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final TokenRevocationRepository revocationRepository = mock(TokenRevocationRepository.class);
+    private final TokenRevocations revocations = new TokenRevocations(userRepository, revocationRepository,
+            mock(PlatformTransactionManager.class), mock(DataSource.class), 100, false);
+
+    @Test
+    void tokensOfUsersWithoutRevocationsAreAccepted() {
+        when(revocationRepository.findAll()).thenReturn(List.of(new TokenRevocation(7, 3, LocalDateTime.now())));
+
+        assertThat(revocations.isRevoked(5, 0)).isFalse();
+        assertThat(revocations.isRevoked(7, 2)).isTrue();
+        assertThat(revocations.isRevoked(7, 3)).isFalse();
+    }
+
+    @Test
+    void revokeBumpsVersionsAndPublishesTheNewMinimums() {
+        when(revocationRepository.findMinVersions(Set.of(5, 6))).thenReturn(List.of(new Object[]{5, 2}, new Object[]{6, 1}));
+
+        revocations.revoke(Set.of(5, 6));
+
+        verify(userRepository).incrementTokenVersions(Set.of(5, 6));
+        verify(revocationRepository).recordCurrentVersions(Set.of(5, 6));
+        verify(revocationRepository).notify(TokenRevocations.CHANNEL, "5:2,6:1");
+        assertThat(revocations.isRevoked(5, 1)).isTrue();
+        assertThat(revocations.isRevoked(5, 2)).isFalse();
+        assertThat(revocations.isRevoked(6, 0)).isTrue();
+    }
+
+    @Test
+    void deletedUsersAreRevokedForEveryVersion() {
+        revocations.revokeDeleted(9);
+
+        verify(revocationRepository).recordDeleted(9);
+        verify(revocationRepository).notify(eq(TokenRevocations.CHANNEL), eq("9:" + Integer.MAX_VALUE));
+        assertThat(revocations.isRevoked(9, 1_000)).isTrue();
+    }
+
+    @Test
+    void notificationsFromOtherInstancesOnlyRaiseTheMinimum() {
+        assertThat(revocations.isRevoked(4, 0)).isFalse();
+
+        revocations.applyNotification("4:3,8:1");
+        revocations.applyNotification("4:2");
+
+        assertThat(revocations.isRevoked(4, 2)).isTrue();
+        assertThat(revocations.isRevoked(8, 1)).isFalse();
+        verify(revocationRepository, times(1)).findAll();
+    }
+
+    @Test
+    void revokedTokensStayRejectedWhileTheListIsReloaded() throws Exception {
+        List<TokenRevocation> rows = new ArrayList<>();
+        for (int userId = 1_000; userId < 51_000; userId++) {
+            rows.add(new TokenRevocation(userId, 1, LocalDateTime.now()));
+        }
+        rows.add(new TokenRevocation(7, 3, LocalDateTime.now()));
+        rows.add(new TokenRevocation(9, Integer.MAX_VALUE, LocalDateTime.now()));
+        when(revocationRepository.findAll()).thenReturn(rows);
+        assertThat(revocations.isRevoked(7, 2)).isTrue();
+
+        AtomicBoolean reloading = new AtomicBoolean(true);
+        AtomicInteger accepted = new AtomicInteger();
+        ExecutorService readers = Executors.newFixedThreadPool(4);
+        try {
+            for (int i = 0; i < 4; i++) {
+                readers.submit(() -> {
+                    while (reloading.get()) {
+                        if (!revocations.isRevoked(7, 2) || !revocations.isRevoked(9, 0)) {
+                            accepted.incrementAndGet();
+                        }
+                    }
+                });
+            }
+            for (int i = 0; i < 100; i++) {
+                revocations.purgeExpired();
+            }
+        } finally {
+            reloading.set(false);
+            readers.shutdown();
+            assertThat(readers.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(accepted).hasValue(0);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.ski_jumping_management.service;
+
+import com.example.ski_jumping_management.DTO.InjuryHandling;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AthleteScoringEngineBenchmark {
+
+    @Param({"1000", "50000", "1000000"})
+    private int buckets;
+
+    private final AthleteScoringEngine engine = new AthleteScoringEngine(Integer.MAX_VALUE);
+    private ScoreColumns columns;
+
+    @Setup
+    public void setUp() {
+        columns = ScoreColumnsFixtures.random(buckets, Math.max(1, buckets / 20), 7);
+    }
+
+    @Benchmark
+    public List<Integer> serial() {
+        return engine.topAthletesSerial(columns, 134, 50, InjuryHandling.IGNORE);
+    }
+
+    @Benchmark
+    public List<Integer> parallel() {
+        return engine.topAthletesParallel(columns, 134, 50, InjuryHandling.IGNORE);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AthleteScoringEngineBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
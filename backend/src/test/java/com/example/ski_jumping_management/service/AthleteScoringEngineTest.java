@@ -0,0 +1,60 @@
+package com.example.ski_jumping_management.service;
+
+import com.example.ski_jumping_management.DTO.InjuryHandling;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AthleteScoringEngineTest {
+
+    private final AthleteScoringEngine engine = new AthleteScoringEngine(Integer.MAX_VALUE);
+
+    @Test
+    void ranksAthletesByWeightedAverageAcrossHillSizes() {
+        ScoreColumns columns = new ScoreColumns(
+                new int[]{1, 1, 2, 3},
+                new int[]{140, 90, 140, 235},
+                new double[]{10.0, 4.0, 6.0, 20.0},
+                new long[]{2, 2, 1, 2}
+        );
+
+        assertThat(engine.topAthletesSerial(columns, 140, 10, InjuryHandling.IGNORE)).containsExactly(2, 3, 1);
+        assertThat(engine.topAthletesSerial(columns, 140, 2, InjuryHandling.IGNORE)).containsExactly(2, 3);
+    }
+
+    @Test
+    void parallelPathMatchesSerialPath() {
+        ScoreColumns columns = ScoreColumnsFixtures.random(100_000, 5_000, 42);
+
+        for (int limit : new int[]{1, 10, 250, 10_000}) {
+            List<Integer> serial = engine.topAthletesSerial(columns, 134, limit, InjuryHandling.IGNORE);
+            assertThat(engine.topAthletesParallel(columns, 134, limit, InjuryHandling.IGNORE)).isEqualTo(serial);
+        }
+    }
+
+    @Test
+    void injurySeverityDownWeightsOrExcludesAthletes() {
+        ScoreColumns columns = new ScoreColumns(
+                new int[]{1, 2, 3, 4},
+                new int[]{140, 140, 140, 140},
+                new double[]{10.0, 9.0, 8.0, 7.0},
+                new long[]{1, 1, 1, 1},
+                new byte[]{3, 2, 1, 0}
+        );
+
+        assertThat(engine.topAthletesSerial(columns, 140, 10, InjuryHandling.IGNORE)).containsExactly(1, 2, 3, 4);
+        assertThat(engine.topAthletesSerial(columns, 140, 10, InjuryHandling.DOWN_WEIGHT)).containsExactly(4, 3, 2);
+        assertThat(engine.topAthletesSerial(columns, 140, 10, InjuryHandling.EXCLUDE)).containsExactly(4);
+        assertThat(engine.topAthletesParallel(columns, 140, 10, InjuryHandling.DOWN_WEIGHT)).containsExactly(4, 3, 2);
+    }
+
+    @Test
+    void emptyWindowYieldsNoAthletes() {
+        ScoreColumns columns = new ScoreColumns(new int[0], new int[0], new double[0], new long[0]);
+
+        assertThat(engine.topAthletesSerial(columns, 140, 5, InjuryHandling.IGNORE)).isEmpty();
+        assertThat(engine.topAthletesParallel(columns, 140, 5, InjuryHandling.IGNORE)).isEmpty();
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.ski_jumping_management.service;
+
+import com.example.ski_jumping_management.PostgresContainerTest;
+import com.example.ski_jumping_management.repository.AthleteSeasonStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({AthleteStatsService.class, SeasonPartitionManager.class})
+class AthleteStatsParityTest extends PostgresContainerTest {
+
+    private static final String SEASON = "2025/2026";
+
+    private static final String STORED = "SELECT athlete_id, season, hill_id, jump_count, jump_length_sum, jump_length_count, " +
+            "best_jump_length, total_points_sum, total_points_count, speed_takeoff_sum, speed_takeoff_count FROM athlete_season_stats";
+    private static final String RECOMPUTED = AthleteSeasonStatsRepository.AGGREGATE_SELECT +
+            "WHERE r.athlete_id IS NOT NULL GROUP BY r.athlete_id, r.season, e.hill_id";
+
+    @Autowired
+    private AthleteStatsService athleteStatsService;
+    @Autowired
+    private SeasonPartitionManager seasonPartitionManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private int eventId;
+    private int hillId;
+
+    @BeforeEach
+    void pickEvent() {
+        seasonPartitionManager.loadExistingPartitions();
+        Map<String, Object> event = jdbcTemplate.queryForMap("SELECT id, hill_id FROM events ORDER BY id LIMIT 1");
+        eventId = ((Number) event.get("id")).intValue();
+        hillId = ((Number) event.get("hill_id")).intValue();
+    }
+
+    @Test
+    void incrementalInsertsMatchAFullRecompute() {
+        int athleteId = newAthlete();
+
+        athleteStatsService.recordAdded(List.of(
+                insertResult(athleteId, "121.5", "128.4", "91.0"),
+                insertResult(athleteId, "118.0", null, "90.6"),
+                insertResult(athleteId, null, "35.0", null)));
+        athleteStatsService.recordAdded(insertResult(athleteId, "124.5", "131.0", null));
+
+        assertThat(mismatches()).isEmpty();
+        assertThat(bestJump(athleteId)).isEqualByComparingTo("124.5");
+    }
+
+    @Test
+    void deletingTheBestJumpFallsBackToTheNextBest() {
+        int athleteId = newAthlete();
+        JumpSample best = insertResult(athleteId, "130.0", "140.0", "92.0");
+        athleteStatsService.recordAdded(List.of(best, insertResult(athleteId, "122.0", "120.0", "91.0")));
+
+        deleteResult(athleteId, "130.0");
+        athleteStatsService.recordRemoved(best);
+
+        assertThat(mismatches()).isEmpty();
+        assertThat(bestJump(athleteId)).isEqualByComparingTo("122.0");
+    }
+
+    @Test
+    void deletingTheLastJumpRemovesTheRow() {
+        int athleteId = newAthlete();
+        JumpSample only = insertResult(athleteId, "110.0", "100.0", null);
+        athleteStatsService.recordAdded(only);
+
+        deleteResult(athleteId, "110.0");
+        athleteStatsService.recordRemoved(only);
+
+        assertThat(mismatches()).isEmpty();
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM athlete_season_stats WHERE athlete_id = ?",
+                Integer.class, athleteId)).isZero();
+    }
+
+    @Test
+    void shorteningTheBestJumpRecomputesIt() {
+        int athleteId = newAthlete();
+        JumpSample before = insertResult(athleteId, "133.5", "142.0", "92.4");
+        athleteStatsService.recordAdded(List.of(before, insertResult(athleteId, "125.0", "126.0", "91.1")));
+
+        jdbcTemplate.update("UPDATE results SET jump_length = 119.5 WHERE athlete_id = ? AND jump_length = 133.5", athleteId);
+        athleteStatsService.recordRemoved(before);
+        athleteStatsService.recordAdded(sample(athleteId, "119.5", "142.0", "92.4"));
+
+        assertThat(mismatches()).isEmpty();
+        assertThat(bestJump(athleteId)).isEqualByComparingTo("125.0");
+    }
+
+    @Test
+    void rebuildAllRepairsDriftedRows() {
+        jdbcTemplate.update("UPDATE athlete_season_stats SET jump_count = jump_count + 5, best_jump_length = NULL");
+        jdbcTemplate.update("DELETE FROM athlete_season_stats WHERE athlete_id = (SELECT min(athlete_id) FROM athlete_season_stats)");
+        assertThat(mismatches()).isNotEmpty();
+
+        Map<String, Integer> rebuilt = athleteStatsService.rebuildAll();
+
+        assertThat(rebuilt).containsKey(SEASON);
+        assertThat(mismatches()).isEmpty();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void rebuildAllRunningAlongsideNewResultsKeepsParity() {
+        int athleteId = new TransactionTemplate(transactionManager).execute(status -> newAthlete());
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            for (int i = 0; i < 200; i++) {
+                String length = String.valueOf(100 + i % 40) + ".5";
+                transaction.executeWithoutResult(status ->
+                        athleteStatsService.recordAdded(insertResult(athleteId, length, "100.0", "90.0")));
+            }
+        });
+
+        while (!writer.isDone()) {
+            athleteStatsService.rebuildAll();
+        }
+
+        writer.join();
+        assertThat(mismatches()).isEmpty();
+        assertThat(jdbcTemplate.queryForObject("SELECT jump_count FROM athlete_season_stats WHERE athlete_id = ?",
+                Integer.class, athleteId)).isEqualTo(200);
+    }
+
+    private List<Map<String, Object>> mismatches() {
+        return jdbcTemplate.queryForList("(" + STORED + " EXCEPT " + RECOMPUTED + ") UNION ALL (" + RECOMPUTED + " EXCEPT " + STORED + ")");
+    }
+
+    private BigDecimal bestJump(int athleteId) {
+        return jdbcTemplate.queryForObject("SELECT best_jump_length FROM athlete_season_stats WHERE athlete_id = ? AND season = ? AND hill_id = ?",
+                BigDecimal.class, athleteId, SEASON, hillId);
+    }
+
+    private int newAthlete() {
+        return jdbcTemplate.queryForObject("INSERT INTO users (first_name, last_name, login, password_hash) " +
+                "VALUES ('Stats', 'Athlete', 'stats-' || gen_random_uuid(), 'x') RETURNING id", Integer.class);
+    }
+
+    private JumpSample insertResult(int athleteId, String jumpLength, String totalPoints, String speedTakeoff) {
+        JumpSample sample = sample(athleteId, jumpLength, totalPoints, speedTakeoff);
+        jdbcTemplate.update("INSERT INTO results (event_id, athlete_id, season, jump_length, total_points, speed_takeoff) " +
+                        "VALUES (?, ?, ?, ?, ?, ?)",
+                eventId, athleteId, SEASON, sample.getJumpLength(), sample.getTotalPoints(), sample.getSpeedTakeoff());
+        return sample;
+    }
+
+    private void deleteResult(int athleteId, String jumpLength) {
+        jdbcTemplate.update("DELETE FROM results WHERE athlete_id = ? AND jump_length = ?", athleteId, new BigDecimal(jumpLength));
+    }
+
+    private JumpSample sample(int athleteId, String jumpLength, String totalPoints, String speedTakeoff) {
+        return new JumpSample(athleteId, SEASON, hillId, null, null, null,
+                jumpLength != null ? new BigDecimal(jumpLength) : null,
+                totalPoints != null ? new BigDecimal(totalPoints) : null,
+                speedTakeoff != null ? new BigDecimal(speedTakeoff) : null);
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.ski_jumping_management.service;
+
+import com.example.ski_jumping_management.repository.AthleteSeasonStatsRepository;
+import com.example.ski_jumping_management.repository.HillRepository;
+import com.example.ski_jumping_management.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class AthleteStatsServiceTest {
+
+    private static final String SEASON = "2025/2026";
+
+    private final AthleteSeasonStatsRepository statsRepository = mock(AthleteSeasonStatsRepository.class);
+    private final SeasonPartitionManager seasonPartitionManager = mock(SeasonPartitionManager.class);
+    private final EntityManager em = mock(EntityManager.class);
+    private final AthleteStatsService service = new AthleteStatsService(statsRepository, mock(UserRepository.class),
+            mock(HillRepository.class), seasonPartitionManager, mock(PlatformTransactionManager.class), em);
+
+    @Test
+    void samplesForTheSameHillAreFoldedIntoOneDelta() {
+        service.recordAdded(List.of(
+                sample(1, 10, "120.5", "130.0", "91.2"),
+                sample(1, 10, "126.0", null, "90.8"),
+                sample(1, 10, null, "40.0", null),
+                sample(1, 11, "98.0", "101.0", null),
+                sample(null, 10, "150.0", "150.0", "95.0")));
+
+        verify(statsRepository).applyDelta(1, SEASON, 10, 3,
+                new BigDecimal("246.5"), 2, new BigDecimal("126.0"),
+                new BigDecimal("170.0"), 2,
+                new BigDecimal("182.0"), 2);
+        verify(statsRepository).applyDelta(1, SEASON, 11, 1,
+                new BigDecimal("98.0"), 1, new BigDecimal("98.0"),
+                new BigDecimal("101.0"), 1,
+                BigDecimal.ZERO, 0);
+        verify(statsRepository, never()).applyDelta(eq(null), anyString(), anyInt(), anyInt(),
+                any(), anyInt(), any(), any(), anyInt(), any(), anyInt());
+    }
+
+    @Test
+    void removingAJumpSubtractsItAndRecomputesTheBestJump() {
+        service.recordRemoved(sample(1, 10, "126.0", "130.0", null));
+
+        InOrder order = inOrder(statsRepository, em);
+        order.verify(statsRepository).applyDelta(1, SEASON, 10, -1,
+                new BigDecimal("-126.0"), -1, null,
+                new BigDecimal("-130.0"), -1,
+                BigDecimal.ZERO, 0);
+        order.verify(em).flush();
+        order.verify(statsRepository).recomputeBestJump(1, SEASON, 10);
+        order.verify(statsRepository).deleteIfEmpty(1, SEASON, 10);
+    }
+
+    @Test
+    void removingAJumpWithoutLengthKeepsTheBestJump() {
+        service.recordRemoved(sample(1, 10, null, "40.0", null));
+
+        verify(statsRepository).applyDelta(1, SEASON, 10, -1,
+                BigDecimal.ZERO, 0, null,
+                new BigDecimal("-40.0"), -1,
+                BigDecimal.ZERO, 0);
+        verify(statsRepository, never()).recomputeBestJump(anyInt(), anyString(), anyInt());
+        verify(statsRepository).deleteIfEmpty(1, SEASON, 10);
+    }
+
+    @Test
+    void untrackedRemovalsAreIgnored() {
+        service.recordRemoved(sample(1, null, "126.0", "130.0", null));
+
+        verifyNoInteractions(statsRepository);
+    }
+
+    @Test
+    void rebuildAllLocksTheTableBeforeReplacingEachSeason() {
+        when(seasonPartitionManager.knownSeasons()).thenReturn(new LinkedHashSet<>(List.of("2024/2025", SEASON)));
+        when(statsRepository.rebuildSeason("2024/2025")).thenReturn(4);
+        when(statsRepository.rebuildSeason(SEASON)).thenReturn(7);
+
+        Map<String, Integer> rebuilt = service.rebuildAll();
+
+        assertThat(rebuilt).containsExactly(Map.entry("2024/2025", 4), Map.entry(SEASON, 7));
+        InOrder order = inOrder(statsRepository);
+        for (String season : rebuilt.keySet()) {
+            order.verify(statsRepository).lockForRebuild();
+            order.verify(statsRepository).deleteBySeason(season);
+            order.verify(statsRepository).rebuildSeason(season);
+        }
+    }
+
+    @Test
+    void rebuildingAthletesLocksTheTableBeforeReplacingTheirRows() {
+        service.rebuildAthletes(List.of(1, 2));
+
+        InOrder order = inOrder(statsRepository, em);
+        order.verify(em).flush();
+        order.verify(statsRepository).lockForRebuild();
+        order.verify(statsRepository).deleteByAthleteIds(List.of(1, 2));
+        order.verify(statsRepository).rebuildAthletes(List.of(1, 2));
+    }
+
+    private static JumpSample sample(Integer athleteId, Integer hillId, String jumpLength, String totalPoints, String speedTakeoff) {
+        return new JumpSample(athleteId, SEASON, hillId, (short) 120, null, (short) 1,
+                jumpLength != null ? new BigDecimal(jumpLength) : null,
+                totalPoints != null ? new BigDecimal(totalPoints) : null,
+                speedTakeoff != null ? new BigDecimal(speedTakeoff) : null);
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.ski_jumping_management.service;
+
+import com.example.ski_jumping_management.DTO.CursorPage;
+import com.example.ski_jumping_management.exceptions.BadRequestException;
+import com.example.ski_jumping_management.model.Event;
+import com.example.ski_jumping_management.model.EventType;
+import com.example.ski_jumping_management.model.Hill;
+import com.example.ski_jumping_management.model.Injury;
+import com.example.ski_jumping_management.model.User;
+import com.example.ski_jumping_management.repository.EventRepository;
+import com.example.ski_jumping_management.repository.HillRepository;
+import com.example.ski_jumping_management.repository.InjuryRepository;
+import com.example.ski_jumping_management.repository.UserRepository;
+import com.example.ski_jumping_management.repository.specification.EventFilter;
+import com.example.ski_jumping_management.repository.specification.EventSpecifications;
+import com.example.ski_jumping_management.repository.specification.InjuryFilter;
+import com.example.ski_jumping_management.repository.specification.InjurySpecifications;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = "spring.flyway.enabled=false")
+class KeysetCursorsTest {
+
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private HillRepository hillRepository;
+    @Autowired
+    private InjuryRepository injuryRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManager em;
+
+    private KeysetCursors keysetCursors;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        keysetCursors = new KeysetCursors(objectMapper, em);
+
+        Hill hill = new Hill();
+        hill.setName("Wielka Krokiew");
+        hill.setHillSize((short) 140);
+        hill = hillRepository.save(hill);
+
+        LocalDateTime base = LocalDateTime.of(2025, 12, 1, 10, 0);
+        for (int i = 0; i < 7; i++) {
+            Event event = new Event();
+            event.setName("Event " + i);
+            event.setType(EventType.TRAINING);
+            event.setHill(hill);
+            event.setStartDate(base.plusDays(i / 2));
+            event.setEndDate(base.plusDays(i / 2).plusHours(3));
+            event.setLevel((short) 1);
+            eventRepository.save(event);
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void scrollsThroughTiesWithoutSkippingOrRepeating() {
+        Sort sort = keysetCursors.sort(Event.class, "startDate", "desc");
+        List<Integer> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+
+        do {
+            var position = keysetCursors.decode(cursor, Event.class, sort);
+            CursorPage<Event> page = keysetCursors.page(eventRepository.findBy(
+                    EventSpecifications.matching(EventFilter.builder().build()),
+                    query -> query.sortBy(sort).limit(3).scroll(position)));
+            page.getContent().forEach(event -> seen.add(event.getId()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(seen).hasSize(7);
+        assertThat(new HashSet<>(seen)).hasSize(7);
+        assertThat(pages).isEqualTo(3);
+    }
+
+    @Test
+    void rejectsTamperedCursor() {
+        Sort sort = keysetCursors.sort(Event.class, "startDate", "asc");
+
+        assertThatThrownBy(() -> keysetCursors.decode("not-a-cursor", Event.class, sort))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> keysetCursors.decode("eyJpZCI6MX0", Event.class, sort))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void rejectsNullableSortPropertiesAndNullCursorKeys() {
+        assertThatThrownBy(() -> keysetCursors.sort(Injury.class, "injuryDate", "desc"))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> keysetCursors.sort(Event.class, "description", "asc"))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> keysetCursors.sort(Event.class, "unknown", "asc"))
+                .isInstanceOf(BadRequestException.class);
+
+        Sort sort = keysetCursors.sort(Event.class, "startDate", "asc");
+        String nullStartDate = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("{\"startDate\":null,\"id\":3}".getBytes(StandardCharsets.UTF_8));
+        assertThatThrownBy(() -> keysetCursors.decode(nullStartDate, Event.class, sort))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void scrollsInjuriesWithNullDatesWithoutSkippingRows() {
+        User athlete = new User();
+        athlete.setFirstName("Kamil");
+        athlete.setLastName("Stoch");
+        athlete.setLogin("kamil.stoch");
+        athlete.setPasswordHash("x");
+        athlete = userRepository.save(athlete);
+        for (int i = 0; i < 5; i++) {
+            Injury injury = new Injury();
+            injury.setAthlete(athlete);
+            injury.setInjuryDate(i % 2 == 0 ? null : LocalDate.of(2025, 11, i));
+            injuryRepository.save(injury);
+        }
+        em.flush();
+        em.clear();
+
+        Sort sort = keysetCursors.sort(Injury.class, "id", "desc");
+        List<Integer> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            var position = keysetCursors.decode(cursor, Injury.class, sort);
+            CursorPage<Injury> page = keysetCursors.page(injuryRepository.findBy(
+                    InjurySpecifications.matching(InjuryFilter.builder().build()),
+                    query -> query.sortBy(sort).limit(2).scroll(position)));
+            page.getContent().forEach(injury -> seen.add(injury.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(seen).hasSize(5).doesNotHaveDuplicates().isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    @Test
+    void rejectsLimitOutsideBounds() {
+        assertThatThrownBy(() -> keysetCursors.limit(0)).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> keysetCursors.limit(KeysetCursors.MAX_LIMIT + 1)).isInstanceOf(BadRequestException.class);
+        assertThat(keysetCursors.limit(50)).isEqualTo(50);
+    }
+}
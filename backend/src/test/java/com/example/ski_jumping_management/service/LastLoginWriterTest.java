@@ -0,0 +1,57 @@
+package com.example.ski_jumping_management.service;
+
+import com.example.ski_jumping_management.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class LastLoginWriterTest {
+
+    private static final LocalDateTime MORNING = LocalDateTime.of(2025, 11, 3, 7, 55);
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final LastLoginWriter writer = new LastLoginWriter(userRepository);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flushWritesOnlyTheLatestLoginPerUserInOneBatch() {
+        writer.record(1, MORNING);
+        writer.record(1, MORNING.plusMinutes(5));
+        writer.record(1, MORNING.plusMinutes(2));
+        writer.record(2, MORNING);
+
+        writer.flush();
+
+        ArgumentCaptor<Map<Integer, LocalDateTime>> batch = ArgumentCaptor.forClass(Map.class);
+        verify(userRepository).updateLastLogins(batch.capture());
+        assertThat(batch.getValue()).containsOnly(Map.entry(1, MORNING.plusMinutes(5)), Map.entry(2, MORNING));
+        assertThat(writer.pendingCount()).isZero();
+    }
+
+    @Test
+    void emptyFlushDoesNotTouchTheDatabase() {
+        writer.flush();
+
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void failedFlushKeepsTimestampsForTheNextAttempt() {
+        doThrow(new IllegalStateException("down")).when(userRepository).updateLastLogins(anyMap());
+        writer.record(1, MORNING);
+
+        assertThatThrownBy(writer::flush).isInstanceOf(IllegalStateException.class);
+
+        assertThat(writer.pendingCount()).isEqualTo(1);
+    }
+}
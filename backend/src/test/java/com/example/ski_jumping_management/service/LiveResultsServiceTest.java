@@ -0,0 +1,181 @@
+package com.example.ski_jumping_management.service;
+
+import com.example.ski_jumping_management.DTO.ResultView;
+import com.example.ski_jumping_management.repository.EventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityNotFoundException;
+import org.awaitility.core.ConditionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LiveResultsServiceTest {
+
+    private static final int EVENT_ID = 7;
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final EventRepository eventRepository = mock(EventRepository.class);
+    private final Queue<RecordingEmitter> nextEmitters = new ArrayDeque<>();
+    private final LiveResultsService service = new LiveResultsService(eventRepository,
+            new ObjectMapper().findAndRegisterModules(), nextEmitters::remove);
+
+    @AfterEach
+    void shutdown() {
+        service.shutdown();
+    }
+
+    @Test
+    void blockedSubscriberIsDroppedOnOverflowWhileFastSubscriberKeepsReceiving() {
+        when(eventRepository.existsById(anyInt())).thenReturn(true);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = subscribe(new RecordingEmitter(release));
+        RecordingEmitter fast = subscribe(new RecordingEmitter(null));
+        eventually().until(() -> slow.sendAttempts() == 1 && fast.received().size() == 1);
+
+        int published = LiveResultsService.BUFFER_CAPACITY + 44;
+        for (int i = 1; i <= published; i++) {
+            service.onResultChanged(ResultChangedEvent.created(result(i)));
+            int expected = i + 1;
+            eventually().until(() -> fast.received().size() == expected);
+        }
+
+        assertThat(service.subscriberCount(EVENT_ID)).isEqualTo(1);
+        eventually().until(slow::isCompleted);
+        assertThat(fast.isCompleted()).isFalse();
+        assertThat(fast.received()).last().asString().contains("id:" + published);
+
+        release.countDown();
+        assertThat(slow.sendAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    void slowSubscriberWithinTheBufferReceivesEveryMessage() {
+        when(eventRepository.existsById(anyInt())).thenReturn(true);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = subscribe(new RecordingEmitter(release));
+        eventually().until(() -> slow.sendAttempts() == 1);
+
+        for (int i = 1; i <= LiveResultsService.BUFFER_CAPACITY; i++) {
+            service.onResultChanged(ResultChangedEvent.created(result(i)));
+        }
+        release.countDown();
+
+        eventually().until(() -> slow.received().size() == LiveResultsService.BUFFER_CAPACITY + 1);
+        assertThat(service.subscriberCount(EVENT_ID)).isEqualTo(1);
+        assertThat(slow.isCompleted()).isFalse();
+    }
+
+    @Test
+    void heartbeatPingsEverySubscriber() {
+        when(eventRepository.existsById(anyInt())).thenReturn(true);
+        RecordingEmitter first = subscribe(new RecordingEmitter(null));
+        RecordingEmitter second = subscribe(new RecordingEmitter(null));
+
+        service.heartbeat();
+
+        eventually().until(() -> first.received().size() == 2 && second.received().size() == 2);
+        assertThat(first.received()).last().asString().contains(":ping");
+        assertThat(second.received()).last().asString().contains(":ping");
+    }
+
+    @Test
+    void deletingTheEventClosesItsStreams() {
+        when(eventRepository.existsById(anyInt())).thenReturn(true);
+        RecordingEmitter first = subscribe(new RecordingEmitter(null));
+        RecordingEmitter second = subscribe(new RecordingEmitter(null));
+
+        service.onEventInvalidated(new EventInvalidatedEvent(EVENT_ID, false));
+        assertThat(service.subscriberCount(EVENT_ID)).isEqualTo(2);
+
+        service.onEventInvalidated(new EventInvalidatedEvent(EVENT_ID, true));
+
+        assertThat(service.subscriberCount(EVENT_ID)).isZero();
+        eventually().until(() -> first.isCompleted() && second.isCompleted());
+    }
+
+    @Test
+    void subscribingToAnUnknownEventIsRejected() {
+        when(eventRepository.existsById(anyInt())).thenReturn(false);
+
+        assertThatThrownBy(() -> service.subscribe(EVENT_ID)).isInstanceOf(EntityNotFoundException.class);
+        assertThat(service.subscriberCount(EVENT_ID)).isZero();
+    }
+
+    private RecordingEmitter subscribe(RecordingEmitter emitter) {
+        nextEmitters.add(emitter);
+        service.subscribe(EVENT_ID);
+        return emitter;
+    }
+
+    private static ConditionFactory eventually() {
+        return await().atMost(TIMEOUT).pollDelay(Duration.ZERO).pollInterval(Duration.ofMillis(1));
+    }
+
+    private static ResultView result(int id) {
+        ResultView view = new ResultView();
+        view.setId(id);
+        view.setEventId(EVENT_ID);
+        return view;
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+        private final CountDownLatch release;
+        private final List<String> received = new CopyOnWriteArrayList<>();
+        private volatile int sendAttempts;
+        private volatile boolean completed;
+
+        private RecordingEmitter(CountDownLatch release) {
+            super(0L);
+            this.release = release;
+        }
+
+        @Override
+        public void send(Set<ResponseBodyEmitter.DataWithMediaType> items) {
+            sendAttempts++;
+            if (release != null) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+            StringBuilder text = new StringBuilder();
+            items.forEach(item -> text.append(item.getData()));
+            received.add(text.toString());
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        private int sendAttempts() {
+            return sendAttempts;
+        }
+
+        private List<String> received() {
+            return received;
+        }
+
+        private boolean isCompleted() {
+            return completed;
+        }
+    }
+}
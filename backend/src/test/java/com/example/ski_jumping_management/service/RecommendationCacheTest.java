@@ -0,0 +1,99 @@
+package com.example.ski_jumping_management.service;
+
+import com.example.ski_jumping_management.DTO.InjuryHandling;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RecommendationCacheTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 10, 1);
+    private static final LocalDate REFERENCE = LocalDate.of(2025, 12, 1);
+
+    private final RecommendationCache cache = new RecommendationCache();
+
+    @Test
+    void concurrentIdenticalRequestsShareOneComputation() throws Exception {
+        AtomicInteger computations = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<List<Integer>>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> cache.get(1, FROM, REFERENCE, 5, InjuryHandling.DOWN_WEIGHT, () -> {
+                    computations.incrementAndGet();
+                    await(release);
+                    return List.of(3, 1, 2);
+                })));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            for (Future<List<Integer>> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS)).containsExactly(3, 1, 2);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(computations).hasValue(1);
+    }
+
+    @Test
+    void differentKeysAreComputedSeparately() {
+        AtomicInteger computations = new AtomicInteger();
+
+        cache.get(1, FROM, REFERENCE, 5, InjuryHandling.DOWN_WEIGHT, () -> List.of(computations.incrementAndGet()));
+        cache.get(1, FROM, REFERENCE, 10, InjuryHandling.DOWN_WEIGHT, () -> List.of(computations.incrementAndGet()));
+        cache.get(2, FROM, REFERENCE, 5, InjuryHandling.DOWN_WEIGHT, () -> List.of(computations.incrementAndGet()));
+        cache.get(1, FROM, REFERENCE.plusDays(1), 5, InjuryHandling.DOWN_WEIGHT, () -> List.of(computations.incrementAndGet()));
+
+        assertThat(computations).hasValue(4);
+    }
+
+    @Test
+    void invalidationForcesRecomputation() {
+        assertThat(cache.get(1, FROM, REFERENCE, 5, InjuryHandling.DOWN_WEIGHT, () -> List.of(1))).containsExactly(1);
+        assertThat(cache.get(1, FROM, REFERENCE, 5, InjuryHandling.DOWN_WEIGHT, () -> List.of(2))).containsExactly(1);
+
+        cache.onResultChanged(ResultChangedEvent.deleted(null));
+
+        assertThat(cache.get(1, FROM, REFERENCE, 5, InjuryHandling.DOWN_WEIGHT, () -> List.of(2))).containsExactly(2);
+    }
+
+    @Test
+    void failedComputationsAreNotCached() {
+        assertThatThrownBy(() -> cache.get(1, FROM, REFERENCE, 5, InjuryHandling.DOWN_WEIGHT, () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(cache.get(1, FROM, REFERENCE, 5, InjuryHandling.DOWN_WEIGHT, () -> List.of(7))).containsExactly(7);
+    }
+
+    @Test
+    void cacheIsBounded() {
+        for (int eventId = 0; eventId < 2000; eventId++) {
+            cache.get(eventId, FROM, REFERENCE, 5, InjuryHandling.DOWN_WEIGHT, List::of);
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(512);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.ski_jumping_management.service;
+
+import com.example.ski_jumping_management.PostgresContainerTest;
+import com.example.ski_jumping_management.repository.AthleteScoreIndexRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RecommendationIndexParityTest extends PostgresContainerTest {
+
+    private static final String SEASON = "2025/2026";
+    private static final int WRITES = 200;
+
+    private static final String STORED = "SELECT athlete_id, hill_size, event_day, jump_count, " +
+            "round(CAST(ratio_level_sum AS numeric), 9) FROM athlete_score_index";
+    private static final String RECOMPUTED = "SELECT r.athlete_id, h.hill_size, CAST(e.start_date AS date), count(*), " +
+            "round(CAST(sum(CAST(r.jump_length AS double precision) / h.hill_size * e.level) AS numeric), 9) " +
+            "FROM results r JOIN events e ON e.id = r.event_id JOIN hills h ON h.id = e.hill_id " +
+            "WHERE r.athlete_id IS NOT NULL AND r.jump_length IS NOT NULL AND h.hill_size > 0 " +
+            AthleteScoreIndexRepository.GROUPING;
+
+    @Autowired
+    private AthleteScoreIndexRepository indexRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private EntityManager em;
+
+    private RecommendationIndexService indexService;
+    private int eventId;
+    private short hillSize;
+    private LocalDate eventDay;
+    private short level;
+
+    @BeforeEach
+    void pickEvent() {
+        indexService = new RecommendationIndexService(indexRepository, new AthleteScoringEngine(Integer.MAX_VALUE),
+                new RecommendationCache(), transactionManager, em);
+        Map<String, Object> event = jdbcTemplate.queryForMap("SELECT e.id, h.hill_size, CAST(e.start_date AS date) AS event_day, e.level " +
+                "FROM events e JOIN hills h ON h.id = e.hill_id WHERE h.hill_size > 0 AND e.level IS NOT NULL ORDER BY e.id LIMIT 1");
+        eventId = ((Number) event.get("id")).intValue();
+        hillSize = ((Number) event.get("hill_size")).shortValue();
+        eventDay = ((Date) event.get("event_day")).toLocalDate();
+        level = ((Number) event.get("level")).shortValue();
+    }
+
+    @Test
+    void rebuildAllRunningAlongsideNewResultsKeepsParity() {
+        int athleteId = newAthlete();
+        CompletableFuture<Void> writer = recordResultsAsync(athleteId);
+
+        while (!writer.isDone()) {
+            indexService.rebuildAll();
+        }
+
+        writer.join();
+        assertThat(mismatches()).isEmpty();
+        assertThat(jumpCount(athleteId)).isEqualTo(WRITES);
+    }
+
+    @Test
+    void rebuildAthletesRunningAlongsideNewResultsKeepsParity() {
+        int athleteId = newAthlete();
+        CompletableFuture<Void> writer = recordResultsAsync(athleteId);
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        while (!writer.isDone()) {
+            transaction.executeWithoutResult(status -> indexService.rebuildAthletes(List.of(athleteId)));
+        }
+
+        writer.join();
+        assertThat(mismatches()).isEmpty();
+        assertThat(jumpCount(athleteId)).isEqualTo(WRITES);
+    }
+
+    private CompletableFuture<Void> recordResultsAsync(int athleteId) {
+        return CompletableFuture.runAsync(() -> {
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            for (int i = 0; i < WRITES; i++) {
+                BigDecimal jumpLength = new BigDecimal((100 + i % 40) + ".5");
+                transaction.executeWithoutResult(status -> {
+                    jdbcTemplate.update("INSERT INTO results (event_id, athlete_id, season, jump_length) VALUES (?, ?, ?, ?)",
+                            eventId, athleteId, SEASON, jumpLength);
+                    indexService.recordAdded(new JumpSample(athleteId, SEASON, null, hillSize, eventDay, level,
+                            jumpLength, null, null));
+                });
+            }
+        });
+    }
+
+    private List<Map<String, Object>> mismatches() {
+        return jdbcTemplate.queryForList("(" + STORED + " EXCEPT " + RECOMPUTED + ") UNION ALL (" + RECOMPUTED + " EXCEPT " + STORED + ")");
+    }
+
+    private int jumpCount(int athleteId) {
+        return jdbcTemplate.queryForObject("SELECT coalesce(sum(jump_count), 0) FROM athlete_score_index WHERE athlete_id = ?",
+                Integer.class, athleteId);
+    }
+
+    private int newAthlete() {
+        return jdbcTemplate.queryForObject("INSERT INTO users (first_name, last_name, login, password_hash) " +
+                "VALUES ('Index', 'Athlete', 'index-' || gen_random_uuid(), 'x') RETURNING id", Integer.class);
+    }
+}
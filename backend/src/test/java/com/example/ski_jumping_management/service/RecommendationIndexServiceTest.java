@@ -0,0 +1,41 @@
+package com.example.ski_jumping_management.service;
+
+import com.example.ski_jumping_management.repository.AthleteScoreIndexRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+
+class RecommendationIndexServiceTest {
+
+    private final AthleteScoreIndexRepository indexRepository = mock(AthleteScoreIndexRepository.class);
+    private final EntityManager em = mock(EntityManager.class);
+    private final RecommendationIndexService service = new RecommendationIndexService(indexRepository,
+            new AthleteScoringEngine(Integer.MAX_VALUE), new RecommendationCache(), mock(PlatformTransactionManager.class), em);
+
+    @Test
+    void rebuildAllLocksTheIndexBeforeReplacingIt() {
+        service.rebuildAll();
+
+        InOrder order = inOrder(indexRepository);
+        order.verify(indexRepository).lockForRebuild();
+        order.verify(indexRepository).deleteAllRows();
+        order.verify(indexRepository).rebuildAll();
+    }
+
+    @Test
+    void rebuildingAthletesLocksTheIndexBeforeReplacingTheirRows() {
+        service.rebuildAthletes(List.of(1, 2));
+
+        InOrder order = inOrder(indexRepository, em);
+        order.verify(em).flush();
+        order.verify(indexRepository).lockForRebuild();
+        order.verify(indexRepository).deleteByAthleteIds(List.of(1, 2));
+        order.verify(indexRepository).rebuildAthletes(List.of(1, 2));
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.ski_jumping_management.service;
+
+import com.example.ski_jumping_management.model.Result;
+import com.example.ski_jumping_management.repository.AthleteScoreIndexRepository;
+import com.example.ski_jumping_management.repository.ResultRepository;
+import com.example.ski_jumping_management.repository.specification.ResultFilter;
+import com.example.ski_jumping_management.repository.specification.ResultSpecifications;
+import com.example.ski_jumping_management.DTO.InjuryHandling;
+import com.example.ski_jumping_management.PostgresContainerTest;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DataJpaTest
+class RecommendationScoringParityTest extends PostgresContainerTest {
+
+    private static final String REFERENCE_SCORES = """
+            SELECT r.athlete_id,
+                   AVG(CAST(r.jump_length AS double precision) / h.hill_size
+                       * (1 - ABS(h.hill_size - :eventHillSize) / CAST(:eventHillSize AS double precision))
+                       * CASE WHEN :windowDays > 0
+                              THEN GREATEST(0, (:windowDays - (CAST(:referenceDate AS date) - CAST(e.start_date AS date))) / CAST(:windowDays AS double precision))
+                              ELSE 1 END
+                       * e.level) AS score
+            FROM results r
+            JOIN events e ON e.id = r.event_id
+            JOIN hills h ON h.id = e.hill_id
+            WHERE r.season IN (:seasons)
+              AND e.start_date >= :fromDate
+              AND e.start_date <= :toDate
+              AND r.athlete_id IS NOT NULL
+              AND r.jump_length IS NOT NULL
+              AND h.hill_size > 0
+            GROUP BY r.athlete_id
+            ORDER BY score DESC, r.athlete_id
+            LIMIT :limit
+            """;
+
+    @Autowired
+    private ResultRepository resultRepository;
+    @Autowired
+    private AthleteScoreIndexRepository indexRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private EntityManager em;
+
+    @ParameterizedTest
+    @CsvSource({
+            "140, 2025-10-01, 2025-12-01",
+            "90, 2025-11-10, 2025-11-20",
+            "235, 2025-11-15, 2025-11-15"
+    })
+    void sqlScoresMatchJavaFormula(int eventHillSize, LocalDate from, LocalDate reference) {
+        LocalDateTime fromDate = from.atStartOfDay();
+        LocalDateTime toDate = reference.atTime(23, 59, 59);
+        long windowDays = ChronoUnit.DAYS.between(from, reference);
+
+        Map<Integer, Double> expected = javaScores(eventHillSize, fromDate, toDate, reference, from);
+        List<Object[]> rows = scoreAthletes(
+                eventHillSize, reference, windowDays, Seasons.between(from, reference), fromDate, toDate, 100);
+
+        assertThat(rows).hasSize(expected.size());
+        double previous = Double.MAX_VALUE;
+        for (Object[] row : rows) {
+            Integer athleteId = ((Number) row[0]).intValue();
+            double score = ((Number) row[1]).doubleValue();
+            assertThat(score).isCloseTo(expected.get(athleteId), within(1e-9));
+            assertThat(score).isLessThanOrEqualTo(previous);
+            previous = score;
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "140, 2025-10-01, 2025-12-01, 3",
+            "90, 2025-11-10, 2025-11-20, 10",
+            "128, 2025-11-01, 2025-11-30, 1"
+    })
+    void scoreIndexTopKMatchesSqlRanking(int eventHillSize, LocalDate from, LocalDate reference, int limit) {
+        RecommendationIndexService indexService = new RecommendationIndexService(indexRepository, new AthleteScoringEngine(Integer.MAX_VALUE), new RecommendationCache(), transactionManager, em);
+        long windowDays = ChronoUnit.DAYS.between(from, reference);
+
+        List<Integer> expected = scoreAthletes(
+                        eventHillSize, reference, windowDays, Seasons.between(from, reference),
+                        from.atStartOfDay(), reference.atTime(23, 59, 59), limit)
+                .stream()
+                .map(row -> ((Number) row[0]).intValue())
+                .toList();
+
+        assertThat(indexService.topAthletes(eventHillSize, from, reference, limit,
+                reference, reference, InjuryHandling.IGNORE)).isEqualTo(expected);
+    }
+
+    @Test
+    void injuredAthletesAreDownWeightedOrExcludedInTheSameQuery() {
+        RecommendationIndexService indexService = new RecommendationIndexService(indexRepository, new AthleteScoringEngine(Integer.MAX_VALUE), new RecommendationCache(), transactionManager, em);
+        LocalDate from = LocalDate.of(2025, 10, 1);
+        LocalDate reference = LocalDate.of(2025, 12, 1);
+        LocalDate eventStart = LocalDate.of(2025, 11, 2);
+        LocalDate eventEnd = LocalDate.of(2025, 11, 4);
+
+        List<Integer> ignored = indexService.topAthletes(140, from, reference, 100, eventStart, eventEnd, InjuryHandling.IGNORE);
+        List<Integer> excluded = indexService.topAthletes(140, from, reference, 100, eventStart, eventEnd, InjuryHandling.EXCLUDE);
+        List<Integer> downWeighted = indexService.topAthletes(140, from, reference, 100, eventStart, eventEnd, InjuryHandling.DOWN_WEIGHT);
+
+        assertThat(ignored).contains(29);
+        assertThat(excluded).doesNotContain(29).containsExactlyElementsOf(ignored.stream().filter(id -> id != 29).toList());
+        assertThat(downWeighted).containsExactlyInAnyOrderElementsOf(ignored);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> scoreAthletes(int eventHillSize, LocalDate referenceDate, long windowDays, Collection<String> seasons,
+                                         LocalDateTime fromDate, LocalDateTime toDate, int limit) {
+        return em.createNativeQuery(REFERENCE_SCORES)
+                .setParameter("eventHillSize", eventHillSize)
+                .setParameter("referenceDate", referenceDate)
+                .setParameter("windowDays", windowDays)
+                .setParameter("seasons", seasons)
+                .setParameter("fromDate", fromDate)
+                .setParameter("toDate", toDate)
+                .setParameter("limit", limit)
+                .getResultList();
+    }
+
+    private Map<Integer, Double> javaScores(int eventHillSize, LocalDateTime fromDate, LocalDateTime toDate,
+                                            LocalDate referenceDate, LocalDate oldestAllowedDate) {
+        ResultFilter filter = Seasons.restrictToPartitions(ResultFilter.builder()
+                .startDate(fromDate)
+                .endDate(toDate)
+                .build());
+
+        return resultRepository.findAll(ResultSpecifications.matching(filter)).stream()
+                .collect(Collectors.groupingBy(r -> r.getAthlete().getId()))
+                .entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey,
+                        entry -> calculateAthleteScore(entry.getValue(), eventHillSize, referenceDate, oldestAllowedDate)));
+    }
+
+    private double calculateAthleteScore(List<Result> results, int eventHillSize,
+                                         LocalDate referenceDate, LocalDate oldestAllowedDate) {
+        double totalScore = 0.0;
+
+        for (Result r : results) {
+            double jumpRatio = r.getJumpLength().doubleValue() / r.getEvent().getHill().getHillSize().doubleValue();
+            double hillFactor = 1 - Math.abs(r.getEvent().getHill().getHillSize().doubleValue() - eventHillSize) / (double) eventHillSize;
+
+            long daysOld = ChronoUnit.DAYS.between(r.getEvent().getStartDate().toLocalDate(), referenceDate);
+            long totalWindow = ChronoUnit.DAYS.between(oldestAllowedDate, referenceDate);
+            double recencyFactor = totalWindow > 0 ? Math.max(0, (double) (totalWindow - daysOld) / totalWindow) : 1.0;
+
+            totalScore += jumpRatio * hillFactor * recencyFactor * r.getEvent().getLevel();
+        }
+
+        return totalScore / results.size();
+    }
+}
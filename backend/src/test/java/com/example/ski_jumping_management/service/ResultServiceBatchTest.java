@@ -0,0 +1,105 @@
+package com.example.ski_jumping_management.service;
+
+import com.example.ski_jumping_management.DTO.ResultBatchResponse;
+import com.example.ski_jumping_management.DTO.ResultBatchRowOutcome;
+import com.example.ski_jumping_management.DTO.ResultRequest;
+import com.example.ski_jumping_management.model.Event;
+import com.example.ski_jumping_management.model.Hill;
+import com.example.ski_jumping_management.model.Result;
+import com.example.ski_jumping_management.model.User;
+import com.example.ski_jumping_management.model.UserRole;
+import com.example.ski_jumping_management.repository.EventParticipantRepository;
+import com.example.ski_jumping_management.repository.EventRepository;
+import com.example.ski_jumping_management.repository.ResultRepository;
+import com.example.ski_jumping_management.repository.UserRepository;
+import com.example.ski_jumping_management.security.AccessPolicy;
+import com.example.ski_jumping_management.security.CustomUserDetails;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ResultServiceBatchTest {
+
+    private final ResultRepository resultRepository = mock(ResultRepository.class);
+    private final EventRepository eventRepository = mock(EventRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final EventParticipantRepository participantRepository = mock(EventParticipantRepository.class);
+    private final ResultService resultService = new ResultService(resultRepository, eventRepository, userRepository,
+            participantRepository, mock(SeasonPartitionManager.class), null, mock(AthleteStatsService.class),
+            mock(RecommendationIndexService.class), mock(ApplicationEventPublisher.class), null, mock(AccessPolicy.class));
+
+    private final CustomUserDetails admin = new CustomUserDetails(1, "admin", null, Set.of(UserRole.ADMIN),
+            Set.of(), true, false, 0);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void outOfRangeRowIsRejectedWhileTheOtherRowsAreCreated() {
+        when(eventRepository.findAllById(any())).thenReturn(List.of(event(3)));
+        when(participantRepository.findParticipantPairs(any(), any(), any()))
+                .thenReturn(List.of(new Object[]{3, 10}, new Object[]{3, 11}, new Object[]{3, 12}));
+        when(userRepository.getReferenceById(anyInt())).thenAnswer(invocation -> user(invocation.getArgument(0)));
+
+        ResultBatchResponse response = resultService.createResults(List.of(
+                jump(10, "131.5", "18.5"),
+                jump(11, "1131.5", "18.5"),
+                jump(12, "128.0", "17.0")
+        ), admin);
+
+        assertThat(response.getCreated()).isEqualTo(2);
+        assertThat(response.getRejected()).isEqualTo(1);
+        assertThat(response.getRows()).extracting(ResultBatchRowOutcome::isCreated).containsExactly(true, false, true);
+        assertThat(response.getRows().get(1).getError()).contains("jumpLength");
+
+        ArgumentCaptor<List<Result>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(resultRepository).insertAll(inserted.capture());
+        assertThat(inserted.getValue()).extracting(result -> result.getAthlete().getId()).containsExactly(10, 12);
+    }
+
+    @Test
+    void columnLimitsFollowTheNumericPrecisionOfTheResultsTable() {
+        assertThat(ResultColumnLimits.violation(jump(1, "999.9", "99.9"))).isNull();
+        assertThat(ResultColumnLimits.violation(jump(1, "999.96", "18.0"))).contains("jumpLength");
+        assertThat(ResultColumnLimits.violation(jump(1, "120.0", "100.0"))).contains("stylePoints");
+        assertThat(ResultColumnLimits.violation(jump(1, "-1000", "18.0"))).contains("jumpLength");
+    }
+
+    private static ResultRequest jump(int athleteId, String jumpLength, String stylePoints) {
+        ResultRequest request = new ResultRequest();
+        request.setEventId(3);
+        request.setAthleteId(athleteId);
+        request.setAttemptNumber((short) 1);
+        request.setJumpLength(new BigDecimal(jumpLength));
+        request.setStylePoints(new BigDecimal(stylePoints));
+        return request;
+    }
+
+    private static Event event(int id) {
+        Hill hill = new Hill();
+        hill.setId(2);
+        hill.setHillSize((short) 140);
+        Event event = new Event();
+        event.setId(id);
+        event.setHill(hill);
+        event.setLevel((short) 1);
+        event.setStartDate(LocalDateTime.of(2025, 12, 6, 10, 0));
+        return event;
+    }
+
+    private static User user(int id) {
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.ski_jumping_management.service;
+
+import java.util.Random;
+
+final class ScoreColumnsFixtures {
+
+    private static final int[] HILL_SIZES = {90, 95, 100, 128, 130, 134, 138, 140, 235};
+
+    private ScoreColumnsFixtures() {
+    }
+
+    static ScoreColumns random(int buckets, int athletes, long seed) {
+        Random random = new Random(seed);
+        int[] athleteIds = new int[buckets];
+        int[] hillSizes = new int[buckets];
+        double[] weightedSums = new double[buckets];
+        long[] jumpCounts = new long[buckets];
+
+        for (int i = 0; i < buckets; i++) {
+            athleteIds[i] = (int) ((long) i * athletes / buckets) + 1;
+            hillSizes[i] = HILL_SIZES[random.nextInt(HILL_SIZES.length)];
+            jumpCounts[i] = 1 + random.nextInt(40);
+            weightedSums[i] = jumpCounts[i] * random.nextDouble() * 5;
+        }
+        return new ScoreColumns(athleteIds, hillSizes, weightedSums, jumpCounts);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.ski_jumping_management.service;
+
+import com.example.ski_jumping_management.DTO.SearchHitType;
+import com.example.ski_jumping_management.exceptions.BadRequestException;
+import com.example.ski_jumping_management.repository.SearchRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class SearchServiceTest {
+
+    private final SearchRepository searchRepository = mock(SearchRepository.class);
+    private final SearchService searchService = new SearchService(searchRepository);
+
+    @Test
+    void trimsTheQueryAndSearchesAllTypesByDefault() {
+        searchService.search("  stoch ", null, 20);
+
+        verify(searchRepository).search("stoch", EnumSet.allOf(SearchHitType.class), 20);
+    }
+
+    @Test
+    void searchesOnlyRequestedTypes() {
+        searchService.search("stoch", List.of(SearchHitType.USER, SearchHitType.USER), 5);
+
+        verify(searchRepository).search("stoch", EnumSet.of(SearchHitType.USER), 5);
+    }
+
+    @Test
+    void rejectsShortQueriesAndOutOfRangeLimits() {
+        assertThatThrownBy(() -> searchService.search(" a ", null, 20)).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> searchService.search(null, null, 20)).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> searchService.search("stoch", null, 0)).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> searchService.search("stoch", null, SearchService.MAX_LIMIT + 1)).isInstanceOf(BadRequestException.class);
+        verifyNoInteractions(searchRepository);
+    }
+}
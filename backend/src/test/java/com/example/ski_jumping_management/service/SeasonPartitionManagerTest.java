@@ -0,0 +1,47 @@
+package com.example.ski_jumping_management.service;
+
+import com.example.ski_jumping_management.PostgresContainerTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import(SeasonPartitionManager.class)
+class SeasonPartitionManagerTest extends PostgresContainerTest {
+
+    @Autowired
+    private SeasonPartitionManager seasonPartitionManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void loadsPartitionsFromCatalog() {
+        seasonPartitionManager.loadExistingPartitions();
+
+        assertThat(seasonPartitionManager.isKnown("2025/2026")).isTrue();
+        assertThat(seasonPartitionManager.isKnown("2026/2027")).isTrue();
+        assertThat(seasonPartitionManager.isKnown("2030/2031")).isFalse();
+    }
+
+    @Test
+    void createsMissingPartitionsForBothTables() {
+        seasonPartitionManager.ensureSeason("2030/2031");
+        seasonPartitionManager.ensureSeason("2030/2031");
+
+        Integer partitions = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_tables WHERE tablename IN ('results_2030_2031', 'event_participants_2030_2031')",
+                Integer.class);
+        assertThat(partitions).isEqualTo(2);
+    }
+
+    @Test
+    void rejectsMalformedSeason() {
+        assertThatThrownBy(() -> seasonPartitionManager.ensureSeason("2030/2030'); DROP TABLE results; --"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.ski_jumping_management.service;
+
+import com.example.ski_jumping_management.repository.specification.ResultFilter;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SeasonsTest {
+
+    @Test
+    void seasonStartsInMay() {
+        assertThat(Seasons.of(LocalDate.of(2026, 4, 30))).isEqualTo("2025/2026");
+        assertThat(Seasons.of(LocalDate.of(2026, 5, 1))).isEqualTo("2026/2027");
+    }
+
+    @Test
+    void betweenListsEverySeasonTouchedByTheWindow() {
+        assertThat(Seasons.between(LocalDate.of(2025, 6, 1), LocalDate.of(2025, 12, 31)))
+                .containsExactly("2025/2026");
+        assertThat(Seasons.between(LocalDate.of(2024, 3, 1), LocalDate.of(2026, 5, 2)))
+                .containsExactly("2023/2024", "2024/2025", "2025/2026", "2026/2027");
+    }
+
+    @Test
+    void closedWindowIsRestrictedToEnumeratedSeasons() {
+        ResultFilter filter = Seasons.restrictToPartitions(ResultFilter.builder()
+                .startDate(LocalDateTime.of(2025, 11, 1, 0, 0))
+                .endDate(LocalDateTime.of(2026, 6, 1, 0, 0))
+                .build());
+
+        assertThat(filter.getPartitionSeasons()).isEqualTo(List.of("2025/2026", "2026/2027"));
+        assertThat(filter.getMinSeason()).isNull();
+        assertThat(filter.getMaxSeason()).isNull();
+    }
+
+    @Test
+    void openOrWideWindowIsRestrictedToSeasonRange() {
+        ResultFilter open = Seasons.restrictToPartitions(ResultFilter.builder()
+                .startDate(LocalDateTime.of(2025, 11, 1, 0, 0))
+                .build());
+        assertThat(open.getPartitionSeasons()).isNull();
+        assertThat(open.getMinSeason()).isEqualTo("2025/2026");
+        assertThat(open.getMaxSeason()).isNull();
+
+        ResultFilter wide = Seasons.restrictToPartitions(ResultFilter.builder()
+                .startDate(LocalDateTime.of(1990, 1, 1, 0, 0))
+                .endDate(LocalDateTime.of(2026, 1, 1, 0, 0))
+                .build());
+        assertThat(wide.getPartitionSeasons()).isNull();
+        assertThat(wide.getMinSeason()).isEqualTo("1989/1990");
+        assertThat(wide.getMaxSeason()).isEqualTo("2025/2026");
+    }
+
+    @Test
+    void noDatesLeavesFilterUntouched() {
+        ResultFilter filter = Seasons.restrictToPartitions(ResultFilter.builder().eventId(1).build());
+
+        assertThat(filter.getPartitionSeasons()).isNull();
+        assertThat(filter.getMinSeason()).isNull();
+        assertThat(filter.getMaxSeason()).isNull();
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.ski_jumping_management.service;
+
+import com.example.ski_jumping_management.DTO.ResultView;
+import com.example.ski_jumping_management.DTO.StandingsEntry;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StandingsBoardTest {
+
+    private static final int EVENT_ID = 7;
+
+    @Test
+    void ranksAthletesByAttemptTotals() {
+        StandingsBoard board = loaded(
+                view(1, 10, 1, "120.5"),
+                view(2, 10, 2, "118.0"),
+                view(3, 11, 1, "130.0"),
+                view(4, 12, 1, "100.0")
+        );
+
+        List<StandingsEntry> standings = board.snapshot();
+
+        assertThat(standings).extracting(StandingsEntry::getAthleteId).containsExactly(10, 11, 12);
+        assertThat(standings.get(0).getTotalPoints()).isEqualByComparingTo("238.5");
+        assertThat(standings.get(0).getAttempts()).hasSize(2);
+        assertThat(standings).extracting(StandingsEntry::getRank).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void appliesCreateUpdateAndDeleteIncrementally() {
+        StandingsBoard board = loaded(view(1, 10, 1, "120.0"), view(2, 11, 1, "110.0"));
+
+        board.put(view(3, 11, 2, "20.0"));
+        assertThat(board.snapshot()).extracting(StandingsEntry::getAthleteId).containsExactly(11, 10);
+
+        board.put(view(1, 10, 1, "140.0"));
+        assertThat(board.snapshot()).extracting(StandingsEntry::getAthleteId).containsExactly(10, 11);
+        assertThat(board.snapshot().get(0).getTotalPoints()).isEqualByComparingTo("140.0");
+
+        board.delete(1);
+        assertThat(board.snapshot()).extracting(StandingsEntry::getAthleteId).containsExactly(11);
+    }
+
+    @Test
+    void replayedChangesAreIdempotent() {
+        StandingsBoard board = loaded(view(1, 10, 1, "120.0"));
+
+        board.put(view(1, 10, 1, "120.0"));
+        board.delete(2);
+
+        assertThat(board.snapshot()).singleElement()
+                .satisfies(entry -> assertThat(entry.getTotalPoints()).isEqualByComparingTo("120.0"));
+    }
+
+    @Test
+    void tiedTotalsShareRank() {
+        StandingsBoard board = loaded(view(1, 10, 1, "120.0"), view(2, 11, 1, "120.0"), view(3, 12, 1, "90.0"));
+
+        assertThat(board.snapshot()).extracting(StandingsEntry::getRank).containsExactly(1, 1, 3);
+    }
+
+    @Test
+    void changesBeforeLoadAndForOtherEventsAreIgnored() {
+        StandingsBoard board = new StandingsBoard(EVENT_ID);
+        board.put(view(1, 10, 1, "120.0"));
+        board.ensureLoaded(List::of);
+
+        ResultView otherEvent = view(2, 11, 1, "100.0");
+        otherEvent.setEventId(EVENT_ID + 1);
+        board.put(otherEvent);
+
+        assertThat(board.snapshot()).isEmpty();
+    }
+
+    private StandingsBoard loaded(ResultView... views) {
+        StandingsBoard board = new StandingsBoard(EVENT_ID);
+        board.ensureLoaded(() -> List.of(views));
+        return board;
+    }
+
+    private ResultView view(int resultId, int athleteId, int attempt, String totalPoints) {
+        ResultView view = new ResultView();
+        view.setId(resultId);
+        view.setEventId(EVENT_ID);
+        view.setAthleteId(athleteId);
+        view.setAthleteFirstName("Athlete");
+        view.setAthleteLastName(String.valueOf(athleteId));
+        view.setAttemptNumber((short) attempt);
+        view.setTotalPoints(new BigDecimal(totalPoints));
+        return view;
+    }
+}
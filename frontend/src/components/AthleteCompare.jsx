@@ -24,9 +24,9 @@ export default function AthleteCompare({ groupedResults, selectedAthletes = [],
     selectedAthletes.forEach(a => {
       const results = groupedResults[a.id]?.results || [];
       results.forEach(r => {
-        if (!r.event || r.attemptNumber == null) return;
-        const date = r.event.startDate.split('T')[0];
-        const eventKey = `${date} – ${r.event.name}`;
+        if (!r.eventId || r.attemptNumber == null) return;
+        const date = r.eventStartDate.split('T')[0];
+        const eventKey = `${date} – ${r.eventName}`;
         if (!eventAttemptsMap[eventKey]) eventAttemptsMap[eventKey] = new Set();
         eventAttemptsMap[eventKey].add(r.attemptNumber);
       });
@@ -49,8 +49,8 @@ export default function AthleteCompare({ groupedResults, selectedAthletes = [],
       selectedAthletes.forEach(a => {
         const results = groupedResults[a.id]?.results || [];
         const match = results.find(r => {
-          const date = r.event?.startDate.split('T')[0];
-          const rLabel = r.event && `${date} – ${r.event.name} – Próba ${r.attemptNumber}`;
+          const date = r.eventStartDate?.split('T')[0];
+          const rLabel = r.eventId && `${date} – ${r.eventName} – Próba ${r.attemptNumber}`;
           return rLabel === label.replace(/\n/g, ' – ');
         });
         point[`${a.firstName} ${a.lastName}`] = match?.[metric] ?? null;
@@ -4,7 +4,7 @@ import UserSelector from './UserSelector';
 export default function ResultForm({ initialData = {}, onSubmit, participants = [] }) {
   const [resultData, setResultData] = useState({
     eventId: initialData.eventId || null,
-    athleteId: initialData.athlete?.id || null,
+    athleteId: initialData.athleteId || initialData.athlete?.id || null,
     attemptNumber: initialData.attemptNumber || '',
     jumpLength: initialData.jumpLength || '',
     stylePoints: initialData.stylePoints || '',
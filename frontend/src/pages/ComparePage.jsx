@@ -48,13 +48,13 @@ export default function ComparePage() {
       const groupedResults = {};
       selectedAthletes.forEach(a => groupedResults[a.id] = { athlete: a, results: [] });
       fetchedResults.forEach(r => {
-        if (groupedResults[r.athlete.id]) groupedResults[r.athlete.id].results.push(r);
+        if (groupedResults[r.athleteId]) groupedResults[r.athleteId].results.push(r);
       });
 
       Object.values(groupedResults).forEach(g =>
         g.results.sort((a, b) => {
-          const dateA = new Date(a.event.startDate);
-          const dateB = new Date(b.event.startDate);
+          const dateA = new Date(a.eventStartDate);
+          const dateB = new Date(b.eventStartDate);
           if (dateA - dateB !== 0) return dateA - dateB;
           return a.attemptNumber - b.attemptNumber;
         })
@@ -63,11 +63,11 @@ export default function ComparePage() {
       if (sameEventsOnly) {
         const eventSets = selectedAthletes.map(a => {
           const results = groupedResults[a.id]?.results || [];
-          return new Set(results.map(r => r.event.id));
+          return new Set(results.map(r => r.eventId));
         });
         const commonEvents = eventSets.reduce((acc, set) => acc ? new Set([...acc].filter(x => set.has(x))) : set, null);
         Object.values(groupedResults).forEach(g => {
-          g.results = g.results.filter(r => commonEvents.has(r.event.id));
+          g.results = g.results.filter(r => commonEvents.has(r.eventId));
         });
       }
 
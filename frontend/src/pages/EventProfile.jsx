@@ -162,10 +162,10 @@ export default function EventProfile() {
   };
 
   const groupedResults = results.reduce((acc, r) => {
-    const athleteId = r.athlete.id;
+    const athleteId = r.athleteId;
     if (!acc[athleteId]) {
       acc[athleteId] = {
-        athlete: r.athlete,
+        athlete: { id: r.athleteId, firstName: r.athleteFirstName, lastName: r.athleteLastName },
         results: [],
       };
     }